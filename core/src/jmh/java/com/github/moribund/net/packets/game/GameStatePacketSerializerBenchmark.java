@@ -0,0 +1,160 @@
+package com.github.moribund.net.packets.game;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link GameStatePacketSerializer} against Kryo's default, reflective
+ * {@link com.esotericsoftware.kryo.serializers.FieldSerializer} for a single {@link GameStatePacket}, both when
+ * writing it and when reading it back. Run with {@code gradle core:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStatePacketSerializerBenchmark {
+
+    /**
+     * The amount of item IDs in each container of a record.
+     */
+    private static final int ITEMS_PER_CONTAINER = 4;
+
+    /**
+     * The amount of player records in the packet.
+     */
+    @Param({"8", "32"})
+    private int playerCount;
+
+    /**
+     * The {@link Kryo} with the hand-written serializer registered.
+     */
+    private Kryo handWritten;
+
+    /**
+     * The {@link Kryo} with the default serializer registered.
+     */
+    private Kryo reflective;
+
+    /**
+     * The packet written.
+     */
+    private GameStatePacket packet;
+
+    /**
+     * The reused output written to.
+     */
+    private Output output;
+
+    /**
+     * The packet as written by the hand-written serializer.
+     */
+    private Input handWrittenInput;
+
+    /**
+     * The packet as written by the default serializer.
+     */
+    private Input reflectiveInput;
+
+    @Setup
+    public void setUp() {
+        handWritten = new Kryo();
+        handWritten.register(GameStatePacket.class, new GameStatePacketSerializer());
+        reflective = new Kryo();
+        reflective.register(GameStatePacket.class);
+        packet = makePacket(playerCount);
+        output = new Output(GameStatePacket.SAFE_DATAGRAM_SIZE * 8);
+        handWrittenInput = new Input(write(handWritten));
+        reflectiveInput = new Input(write(reflective));
+    }
+
+    /**
+     * Makes a packet with made up player records.
+     * @param playerCount The amount of player records.
+     * @return The packet.
+     */
+    private static GameStatePacket makePacket(int playerCount) {
+        val packet = new GameStatePacket();
+        packet.snapshotId = 1;
+        packet.serverTime = System.currentTimeMillis();
+        packet.playerCount = playerCount;
+        packet.playerIds = new int[playerCount];
+        packet.xs = new float[playerCount];
+        packet.ys = new float[playerCount];
+        packet.rotations = new float[playerCount];
+        packet.hitpoints = new int[playerCount];
+        packet.inventoryOffsets = new int[playerCount + 1];
+        packet.equipmentOffsets = new int[playerCount + 1];
+        packet.inventoryItems = new int[playerCount * ITEMS_PER_CONTAINER];
+        packet.equipmentItems = new int[playerCount * ITEMS_PER_CONTAINER];
+        for (int i = 0; i < playerCount; i++) {
+            packet.playerIds[i] = i;
+            packet.xs[i] = i * 16.5f;
+            packet.ys[i] = i * 8.25f;
+            packet.rotations[i] = i * 10f;
+            packet.hitpoints[i] = 100;
+            packet.inventoryOffsets[i + 1] = (i + 1) * ITEMS_PER_CONTAINER;
+            packet.equipmentOffsets[i + 1] = (i + 1) * ITEMS_PER_CONTAINER;
+        }
+        for (int i = 0; i < playerCount * ITEMS_PER_CONTAINER; i++) {
+            packet.inventoryItems[i] = i % 20;
+            packet.equipmentItems[i] = i % 7;
+        }
+        return packet;
+    }
+
+    /**
+     * Writes the packet with a {@link Kryo}.
+     * @param kryo The {@link Kryo} to write with.
+     * @return The written bytes.
+     */
+    private byte[] write(Kryo kryo) {
+        output.clear();
+        kryo.writeObject(output, packet);
+        return output.toBytes();
+    }
+
+    @Benchmark
+    public int writeHandWritten() {
+        output.clear();
+        handWritten.writeObject(output, packet);
+        return output.position();
+    }
+
+    @Benchmark
+    public int writeReflective() {
+        output.clear();
+        reflective.writeObject(output, packet);
+        return output.position();
+    }
+
+    @Benchmark
+    public GameStatePacket readHandWritten() {
+        handWrittenInput.setPosition(0);
+        GameStatePacket packet = handWritten.readObject(handWrittenInput, GameStatePacket.class);
+        packet.free();
+        return packet;
+    }
+
+    @Benchmark
+    public GameStatePacket readReflective() {
+        reflectiveInput.setPosition(0);
+        return reflective.readObject(reflectiveInput, GameStatePacket.class);
+    }
+}
@@ -1,19 +1,33 @@
 package com.github.moribund;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.github.moribund.audio.MusicContainer;
 import com.github.moribund.graphics.animations.AnimationContainer;
-import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.graphics.drawables.DrawableUIAsset;
 import com.github.moribund.graphics.fonts.FontContainer;
 import com.github.moribund.graphics.sprites.SpriteContainer;
+import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.net.NetworkBootstrapper;
 import com.github.moribund.net.PacketDispatcher;
+import com.github.moribund.net.RateController;
+import com.github.moribund.net.packets.game.GameStatePacket;
 import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
+import com.github.moribund.objects.nonplayable.items.GroundItemDigest;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
+import com.github.moribund.objects.playable.players.Player;
 import com.github.moribund.screens.login.LoginScreenFactory;
+import com.github.moribund.simulation.EntityCommandBuffer;
+import com.github.moribund.simulation.EntitySet;
+import com.github.moribund.simulation.EntityStore;
+import com.github.moribund.simulation.GameClock;
+import com.github.moribund.simulation.ObstacleMap;
+import com.github.moribund.simulation.SpatialGrid;
+import com.github.moribund.simulation.StateHistory;
+import com.github.moribund.simulation.WorldBounds;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
@@ -23,6 +37,7 @@ import lombok.Setter;
 import lombok.extern.java.Log;
 import lombok.val;
 
+import java.io.DataInputStream;
 import java.io.IOException;
 
 /**
@@ -41,14 +56,32 @@ public class MoribundClient extends Game {
      */
     @Getter
     private final Int2ObjectMap<PlayableCharacter> players;
+    /**
+     * All the {@link Projectile}s in the game, keyed by their server-assigned unique ID. Like the rest of the state
+     * of the game, it is only accessed from the render thread.
+     */
     @Getter
-    private final ObjectList<GroundItem> groundItems;
+    private final Int2ObjectMap<Projectile> projectiles;
     @Getter
-    private final ObjectList<DrawableGameAsset> drawableGameAssets;
+    private final ObjectList<GroundItem> groundItems;
     @Getter
     private final ObjectList<DrawableUIAsset> drawableUIAssets;
+    /**
+     * The {@link Flaggable}s that are simulated every tick, only ever modified through the
+     * {@link MoribundClient#entityCommands}.
+     */
+    @Getter
+    private final EntitySet<Flaggable> flaggables;
+    /**
+     * The buffer of entity spawns and despawns, applied by the render thread between frames and ticks.
+     */
     @Getter
-    private final ObjectList<Flaggable> flaggables;
+    private final EntityCommandBuffer entityCommands;
+    /**
+     * The states of the players over the last ticks, as this client saw them.
+     */
+    @Getter
+    private final StateHistory stateHistory;
     /**
      * The network bootstrapper to start networking.
      */
@@ -58,25 +91,80 @@ public class MoribundClient extends Game {
      */
     private final PacketDispatcher packetDispatcher;
     /**
-     * The {@link PlayableCharacter} that the user of this client is.
+     * The rate controller that adapts the send and snapshot rates to the quality of the link.
+     */
+    @Getter
+    private final RateController rateController;
+    /**
+     * The digest that keeps the {@link MoribundClient#groundItems} in sync with the server.
+     */
+    @Getter
+    private final GroundItemDigest groundItemDigest;
+    /**
+     * The clock the game is simulated and timed by.
+     */
+    @Getter
+    private final GameClock clock;
+    /**
+     * The store of the simulation state of all the {@link PlayableCharacter}s and {@link Projectile}s.
+     */
+    @Getter
+    private final EntityStore entityStore;
+    /**
+     * The bounds of the map, set once the map is loaded.
+     */
+    @Getter
+    private WorldBounds worldBounds;
+    /**
+     * The obstacles of the map, set once the map is loaded.
+     */
+    @Getter
+    private ObstacleMap obstacleMap;
+    /**
+     * The spatial index of the {@link MoribundClient#groundItems}, created once the map is loaded.
+     */
+    @Getter
+    private SpatialGrid<GroundItem> groundItemGrid;
+    /**
+     * The spatial index of the {@link MoribundClient#players}, created once the map is loaded.
+     */
+    @Getter
+    private SpatialGrid<PlayableCharacter> playerGrid;
+    /**
+     * The spatial index of the launched {@link MoribundClient#projectiles}, created once the map is loaded.
+     */
+    @Getter
+    private SpatialGrid<Projectile> projectileGrid;
+    /**
+     * The {@link Player} that the user of this client is.
      */
     @Getter @Setter
-    private PlayableCharacter player;
+    private Player player;
 
     /**
      * Constructor that provides the {@code MoribundClient} its dependencies.
      * @param networkBootstrapper The network bootstrapper to start networking.
      * @param packetDispatcher The packet dispatcher to send the server packets.
+     * @param rateController The rate controller of the connection.
+     * @param clock The clock of the game.
      */
     MoribundClient(NetworkBootstrapper networkBootstrapper,
-                   PacketDispatcher packetDispatcher) {
+                   PacketDispatcher packetDispatcher,
+                   RateController rateController,
+                   GameClock clock) {
         this.networkBootstrapper = networkBootstrapper;
         this.packetDispatcher = packetDispatcher;
+        this.rateController = rateController;
+        this.clock = clock;
         players = new Int2ObjectOpenHashMap<>();
-        drawableGameAssets = new ObjectArrayList<>();
+        projectiles = new Int2ObjectOpenHashMap<>();
         drawableUIAssets = new ObjectArrayList<>();
-        flaggables = new ObjectArrayList<>();
+        flaggables = new EntitySet<>();
+        entityCommands = new EntityCommandBuffer();
+        stateHistory = new StateHistory();
         groundItems = new ObjectArrayList<>();
+        groundItemDigest = new GroundItemDigest(clock);
+        entityStore = new EntityStore();
     }
 
     /**
@@ -89,6 +177,9 @@ public class MoribundClient extends Game {
         try {
             connectNetworking();
             SpriteContainer.getInstance().setup();
+            val background = SpriteContainer.getInstance().getSprite(SpriteFile.BACKGROUND);
+            val worldBounds = new WorldBounds(background.getWidth(), background.getHeight());
+            loadWorld(worldBounds, readObstacleMap(worldBounds));
             MusicContainer.getInstance().setup();
             AnimationContainer.getInstance().setup();
             FontContainer.getInstance().setup();
@@ -101,6 +192,49 @@ public class MoribundClient extends Game {
         }
     }
 
+    /**
+     * Loads the map the game is simulated on, creating the {@link SpatialGrid}s over it. Each grid is padded by the
+     * largest extent of the sprites it indexes: a ground item, a player holding a spear and a spear respectively.
+     * This is called with the size of the background once the sprites are loaded, or directly when simulating
+     * without textures.
+     * @param worldBounds The bounds of the map.
+     * @param obstacleMap The obstacles of the map.
+     */
+    public void loadWorld(WorldBounds worldBounds, ObstacleMap obstacleMap) {
+        this.worldBounds = worldBounds;
+        this.obstacleMap = obstacleMap;
+        groundItemGrid = SpatialGrid.overMap(worldBounds, 64);
+        playerGrid = SpatialGrid.overMap(worldBounds, 256);
+        projectileGrid = SpatialGrid.overMap(worldBounds, 128);
+    }
+
+    /**
+     * Loads a map without obstacles, see {@link MoribundClient#loadWorld(WorldBounds, ObstacleMap)}.
+     * @param worldBounds The bounds of the map.
+     */
+    public void loadWorld(WorldBounds worldBounds) {
+        loadWorld(worldBounds, ObstacleMap.empty(worldBounds));
+    }
+
+    /**
+     * Reads the {@link ObstacleMap} baked for the background. A map with no obstacles is used should there be no
+     * baked obstacle map, or should it fail to be read.
+     * @param worldBounds The bounds of the map.
+     * @return The obstacle map of the background.
+     */
+    private ObstacleMap readObstacleMap(WorldBounds worldBounds) {
+        val file = Gdx.files.internal(ObstacleMap.FILE);
+        if (!file.exists()) {
+            return ObstacleMap.empty(worldBounds);
+        }
+        try (DataInputStream input = new DataInputStream(file.read(8192))) {
+            return ObstacleMap.read(input, worldBounds);
+        } catch (IOException e) {
+            log.warning("The obstacle map could not be read: " + e.getMessage());
+            return ObstacleMap.empty(worldBounds);
+        }
+    }
+
     /**
      * Switches the screen to a new {@link Screen}.
      * @param screen The screen to switch to.
@@ -153,10 +287,19 @@ public class MoribundClient extends Game {
     @Override
     public void dispose() {
         players.clear();
+        projectiles.clear();
         groundItems.clear();
-        drawableGameAssets.clear();
         drawableUIAssets.clear();
         flaggables.clear();
+        entityCommands.clear();
+        stateHistory.clear();
+        entityStore.clear();
+        GameStatePacket.reset();
+        if (groundItemGrid != null) {
+            groundItemGrid.clear();
+            playerGrid.clear();
+            projectileGrid.clear();
+        }
         player = null;
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.github.moribund;
 
 import com.github.moribund.net.NetworkBootstrapper;
 import com.github.moribund.net.PacketDispatcher;
+import com.github.moribund.simulation.GameClock;
 import lombok.val;
 
 /**
@@ -14,9 +15,11 @@ class MoribundClientFactory {
      * @return The newly made {@link MoribundClient}.
      */
     MoribundClient createMoribundClient() {
-        val networkBootstrapper = createNetworkBootstrapper();
+        val clock = new GameClock();
+        val networkBootstrapper = createNetworkBootstrapper(clock);
         val packetDispatcher = createPacketDispatcher(networkBootstrapper);
-        return new MoribundClient(networkBootstrapper, packetDispatcher);
+        return new MoribundClient(networkBootstrapper, packetDispatcher, networkBootstrapper.getRateController(),
+                clock);
     }
 
     /**
@@ -30,9 +33,10 @@ class MoribundClientFactory {
 
     /**
      * Creates a network bootstrapper.
+     * @param clock The clock of the game.
      * @return The newly made network bootstrapper.
      */
-    private NetworkBootstrapper createNetworkBootstrapper() {
-        return new NetworkBootstrapper();
+    private NetworkBootstrapper createNetworkBootstrapper(GameClock clock) {
+        return new NetworkBootstrapper(clock);
     }
 }
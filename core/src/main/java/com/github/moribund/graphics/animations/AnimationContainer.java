@@ -8,7 +8,8 @@ import lombok.Getter;
 import lombok.val;
 
 /**
- * The {@code AnimationContainer} class contains {@link SpriteAnimation}s.
+ * The {@code AnimationContainer} class contains the {@link SpriteAnimation}s, which are shared by every entity playing
+ * them.
  */
 public class AnimationContainer {
 
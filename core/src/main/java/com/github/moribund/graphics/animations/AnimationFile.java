@@ -10,17 +10,17 @@ public enum AnimationFile {
     /**
      * The texture atlas of the bow animation.
      */
-    BOW("images/players/animations/bow_animation.atlas", "Bow", 0.15f),
+    BOW("images/players/animations/bow_animation.atlas", "Bow", 0.15f, 5),
 
     /**
      * The texture atlas of the dart animation.
      */
-    DART("images/players/animations/dart_animation.atlas", "Dart", 0.1f),
+    DART("images/players/animations/dart_animation.atlas", "Dart", 0.1f, 7),
 
     /**
      * The texture atlas of the spear animation.
      */
-    SPEAR("images/players/animations/spear_animation.atlas", "Spear", 0.2f),
+    SPEAR("images/players/animations/spear_animation.atlas", "Spear", 0.2f, 6),
     ;
 
     /**
@@ -42,14 +42,29 @@ public enum AnimationFile {
     private final String regionName;
 
     /**
-     * The duration of the animation.
+     * The duration of a single frame of the animation, in seconds.
      */
     @Getter
     private final float duration;
 
-    AnimationFile(String file, String regionName, float duration) {
+    /**
+     * The amount of frames in the texture atlas, known up front so that playback can be timed without loading it.
+     */
+    @Getter
+    private final int frameCount;
+
+    AnimationFile(String file, String regionName, float duration, int frameCount) {
         this.file = file;
         this.regionName = regionName;
         this.duration = duration;
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * Gets the time at which the last frame of the animation is reached, which is when it counts as finished.
+     * @return The time of the last frame, in seconds.
+     */
+    public float getLastFrameTime() {
+        return (frameCount - 1) * duration;
     }
 }
@@ -0,0 +1,14 @@
+package com.github.moribund.graphics.animations;
+
+/**
+ * An {@code AnimationListener} is notified once an {@link AnimationPlayback} it is attached to ends.
+ */
+@FunctionalInterface
+public interface AnimationListener {
+
+    /**
+     * What to do when an animation has ended, either by reaching its last frame or by being cut short.
+     * @param playback The playback that ended, which is freed back into its pool right after.
+     */
+    void animationEnded(AnimationPlayback playback);
+}
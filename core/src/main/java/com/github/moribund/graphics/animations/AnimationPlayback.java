@@ -0,0 +1,103 @@
+package com.github.moribund.graphics.animations;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.utils.Pool;
+import com.github.moribund.simulation.GameClock;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The {@code AnimationPlayback} is the state of a single entity playing an {@link AnimationFile}: when it started
+ * and who to notify once it ends. Playback advances on the ticks of the {@link GameClock} rather than on the
+ * time between frames, so when an animation ends does not depend on the frame rate, nor on textures being loaded.
+ *
+ * <p>
+ * Playbacks are pooled so that starting an animation does not allocate. They are obtained, drawn and freed on
+ * the render thread only, as animations are started by input and by packets, which are both processed there, so a
+ * playback is never freed while it is being drawn.
+ */
+public final class AnimationPlayback implements Pool.Poolable {
+
+    /**
+     * The pool of free playbacks.
+     */
+    private static final Pool<AnimationPlayback> POOL = new Pool<AnimationPlayback>(16, 256) {
+        @Override
+        protected AnimationPlayback newObject() {
+            return new AnimationPlayback();
+        }
+    };
+
+    /**
+     * The animation being played.
+     */
+    @Getter
+    private AnimationFile file;
+
+    /**
+     * The tick the playback started at.
+     */
+    private long startTick;
+
+    /**
+     * The listener to notify once the playback ends.
+     */
+    private AnimationListener listener;
+
+    private AnimationPlayback() { }
+
+    /**
+     * Starts playing an animation.
+     * @param file The animation to play.
+     * @param startTick The tick the playback starts at.
+     * @param listener The listener to notify once the playback ends, or {@code null} for none.
+     * @return The playback, which must be ended through {@link AnimationPlayback#end()}.
+     */
+    public static AnimationPlayback start(AnimationFile file, long startTick, AnimationListener listener) {
+        val playback = POOL.obtain();
+        playback.file = file;
+        playback.startTick = startTick;
+        playback.listener = listener;
+        return playback;
+    }
+
+    /**
+     * Checks whether the playback has reached the last frame of its animation.
+     * @param tick The current tick.
+     * @return If the playback is finished.
+     */
+    public boolean isFinished(long tick) {
+        return (tick - startTick) * GameClock.TICK_SECONDS >= file.getLastFrameTime();
+    }
+
+    /**
+     * Draws the frame of the animation reached.
+     * @param batch The batch to draw to.
+     * @param originalSprite The original sprite to mock the location and rotation of.
+     * @param tick The current tick.
+     * @param alpha How far between the current and the next tick to draw at.
+     */
+    public void draw(Batch batch, Sprite originalSprite, long tick, float alpha) {
+        val stateTime = (tick - startTick + alpha) * GameClock.TICK_SECONDS;
+        AnimationContainer.getInstance().getAnimation(file).drawAnimation(batch, stateTime, originalSprite);
+    }
+
+    /**
+     * Ends the playback, notifying its listener, and frees it back into its pool.
+     */
+    public void end() {
+        val listener = this.listener;
+        if (listener != null) {
+            listener.animationEnded(this);
+        }
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        file = null;
+        startTick = 0;
+        listener = null;
+    }
+}
@@ -1,5 +1,6 @@
 /**
- * Classes related to animations are here. This includes the class for animations itself
- * ({@link com.github.moribund.graphics.animations.SpriteAnimation}).
+ * Classes related to animations are here. This includes the class for the shared frames of animations
+ * ({@link com.github.moribund.graphics.animations.SpriteAnimation}) and the per-entity state of playing one
+ * ({@link com.github.moribund.graphics.animations.AnimationPlayback}).
  */
-package com.github.moribund.graphics.animations;
\ No newline at end of file
+package com.github.moribund.graphics.animations;
@@ -5,8 +5,9 @@ package com.github.moribund.graphics.drawables;
  * The {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} passed in is the
  * {@link com.github.moribund.screens.game.GameScreen#gameBatch}.
  *
- * @implNote All {@code DrawableGameAsset}s that wish to be displayed as a game asset go to
- * {@link com.github.moribund.MoribundClient#drawableGameAssets}.
+ * @implNote All {@code DrawableGameAsset}s that wish to be displayed as a game asset go to one of the
+ * {@link com.github.moribund.simulation.SpatialGrid}s of the {@link com.github.moribund.MoribundClient}, which the
+ * {@link com.github.moribund.screens.game.GameScreen} queries for the assets within view.
  */
 public interface DrawableGameAsset extends Drawable {
 }
@@ -14,6 +14,10 @@ import java.io.IOException;
  * call {@link IncomingPacket#process()}. This allows for a lot of safety of info as the client now has
  * distinguishment of what packet is of what classification. Refer to {@link IncomingPacket}'s documentation
  * for more info.
+ *
+ * <p>
+ * Packets are received on the network thread, but processed on the render thread before the next frame, in the
+ * order they were received. The state of the game is therefore only ever written from the render thread.
  */
 class ClientListener extends Listener {
     @Override
@@ -33,7 +37,7 @@ class ClientListener extends Listener {
     public void received(Connection connection, Object object) {
         if (object instanceof IncomingPacket) {
             val incomingPacket = (IncomingPacket) object;
-            incomingPacket.process();
+            Gdx.app.postRunnable(incomingPacket::process);
         }
     }
 }
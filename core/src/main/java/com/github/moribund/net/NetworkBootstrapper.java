@@ -9,9 +9,13 @@ import com.github.moribund.net.packets.account.DrawNewPlayerPacket;
 import com.github.moribund.net.packets.account.ExitGamePacket;
 import com.github.moribund.net.packets.combat.DeathPacket;
 import com.github.moribund.net.packets.combat.ProjectileCollisionPacket;
+import com.github.moribund.net.packets.combat.ProjectileEventsPacket;
 import com.github.moribund.net.packets.data.GroundItemData;
 import com.github.moribund.net.packets.data.PlayerData;
+import com.github.moribund.net.packets.data.ProjectileEventData;
 import com.github.moribund.net.packets.game.GameStatePacket;
+import com.github.moribund.net.packets.game.GameStatePacketSerializer;
+import com.github.moribund.net.packets.game.SnapshotRateRequestPacket;
 import com.github.moribund.net.packets.graphics.*;
 import com.github.moribund.net.packets.input.*;
 import com.github.moribund.net.packets.items.*;
@@ -19,8 +23,11 @@ import com.github.moribund.net.packets.login.LoginPacket;
 import com.github.moribund.net.packets.login.LoginResponse;
 import com.github.moribund.net.packets.login.LoginResponsePacket;
 import com.github.moribund.net.packets.movement.LocationPacket;
+import com.github.moribund.net.packets.movement.LocationPacketSerializer;
 import com.github.moribund.net.packets.movement.RotationPacket;
+import com.github.moribund.net.packets.movement.RotationPacketSerializer;
 import com.github.moribund.objects.nonplayable.items.ItemType;
+import com.github.moribund.simulation.GameClock;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
 
@@ -50,11 +57,19 @@ public class NetworkBootstrapper {
     @Getter
     private final Client client;
 
+    /**
+     * The rate controller of the connection.
+     */
+    @Getter
+    private final RateController rateController;
+
     /**
      * Allows for a creation of the connection client.
+     * @param clock The clock of the game, which the {@link RateController} is timed by.
      */
-    public NetworkBootstrapper() {
+    public NetworkBootstrapper(GameClock clock) {
         client = new Client();
+        rateController = new RateController(client, clock);
     }
 
     /**
@@ -73,6 +88,8 @@ public class NetworkBootstrapper {
     /**
      * Registers packets that are serialized by {@link Kryo}. Packets
      * are NOT required to implement {@link Kryo} or {@link com.esotericsoftware.kryo.KryoSerializable}.
+     * The highest-frequency packets (movement and game state) are registered with hand-written serializers
+     * that read and write their fields as primitives.
      * @param kryo The {@link Client}'s {@link Kryo}.
      */
     private void registerPackets(Kryo kryo) {
@@ -85,9 +102,9 @@ public class NetworkBootstrapper {
         kryo.register(KeyPressedResponsePacket.class);
         kryo.register(KeyUnpressedPacket.class);
         kryo.register(KeyUnpressedResponsePacket.class);
-        kryo.register(LocationPacket.class);
-        kryo.register(RotationPacket.class);
-        kryo.register(GameStatePacket.class);
+        kryo.register(LocationPacket.class, new LocationPacketSerializer());
+        kryo.register(RotationPacket.class, new RotationPacketSerializer());
+        kryo.register(GameStatePacket.class, new GameStatePacketSerializer());
         kryo.register(ExitGamePacket.class);
         kryo.register(LoginPacket.class);
         kryo.register(LoginResponse.class, new JavaSerializer());
@@ -109,6 +126,12 @@ public class NetworkBootstrapper {
         kryo.register(NewGroundItemPacket.class);
         kryo.register(DropItemPacket.class);
         kryo.register(VictoryRoyalePacket.class);
+        kryo.register(ProjectileEventData.class, new JavaSerializer());
+        kryo.register(ProjectileEventsPacket.class);
+        kryo.register(SnapshotRateRequestPacket.class);
+        kryo.register(int[].class);
+        kryo.register(GroundItemDigestPacket.class);
+        kryo.register(GroundItemResyncPacket.class);
     }
 
     /**
@@ -116,6 +139,6 @@ public class NetworkBootstrapper {
      * @return The newly made packet dispatcher.
      */
     public PacketDispatcher createPacketDispatcher() {
-        return new PacketDispatcher(client);
+        return new PacketDispatcher(client, rateController);
     }
 }
@@ -13,13 +13,19 @@ public class PacketDispatcher {
      * The connection client.
      */
     private final Client client;
+    /**
+     * The rate controller that measures the bytes sent.
+     */
+    private final RateController rateController;
 
     /**
      * This constructor to initialize the connection client for restrictive access.
      * @param client The client to be accessed for packet dispatching.
+     * @param rateController The rate controller to report the bytes sent to.
      */
-    PacketDispatcher(Client client) {
+    PacketDispatcher(Client client, RateController rateController) {
         this.client = client;
+        this.rateController = rateController;
     }
 
     /**
@@ -29,7 +35,7 @@ public class PacketDispatcher {
      *               details.
      */
     public void sendUDP(OutgoingPacket packet){
-        client.sendUDP(packet);
+        rateController.bytesSent(client.sendUDP(packet));
     }
 
     /**
@@ -38,6 +44,6 @@ public class PacketDispatcher {
      *               details.
      */
     public void sendTCP(OutgoingPacket packet){
-        client.sendTCP(packet);
+        rateController.bytesSent(client.sendTCP(packet));
     }
 }
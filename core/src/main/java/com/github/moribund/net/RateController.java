@@ -0,0 +1,304 @@
+package com.github.moribund.net;
+
+import com.esotericsoftware.kryonet.Client;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.net.packets.game.SnapshotRateRequestPacket;
+import com.github.moribund.simulation.GameClock;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The {@code RateController} measures the quality of the link to the {@link com.esotericsoftware.kryonet.Server}
+ * (round trip time, snapshot loss and throughput) and adapts the rate the client sends movement at, as well as the
+ * rate it asks the server to send {@link com.github.moribund.net.packets.game.GameStatePacket}s at.
+ *
+ * <p>
+ * The adaption is additive-increase, multiplicative-decrease: once per measurement window the intervals are
+ * stretched by {@link RateController#BACK_OFF_FACTOR} if congestion is seen, otherwise they shrink by a small
+ * constant step back towards their defaults.
+ */
+public class RateController {
+    /**
+     * The length of a measurement window in nanoseconds.
+     */
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    /**
+     * The fastest the client sends movement, in milliseconds between sends (a send per 60 FPS frame).
+     */
+    private static final int MIN_INPUT_INTERVAL = 16;
+    /**
+     * The slowest the client sends movement, in milliseconds between sends.
+     */
+    private static final int MAX_INPUT_INTERVAL = 100;
+    /**
+     * The step by which the input interval recovers every healthy window.
+     */
+    private static final int INPUT_RECOVERY_STEP = 4;
+    /**
+     * The fastest the server is asked to send snapshots, which is the server's default of every 100 MS.
+     */
+    private static final int MIN_SNAPSHOT_INTERVAL = 100;
+    /**
+     * The slowest the server is asked to send snapshots, in milliseconds between snapshots.
+     */
+    private static final int MAX_SNAPSHOT_INTERVAL = 400;
+    /**
+     * The step by which the snapshot interval recovers every healthy window.
+     */
+    private static final int SNAPSHOT_RECOVERY_STEP = 20;
+    /**
+     * The factor the intervals are multiplied by when congestion is seen.
+     */
+    private static final float BACK_OFF_FACTOR = 1.5f;
+    /**
+     * The fraction of snapshots that may be lost in a window before it counts as congestion.
+     */
+    private static final float LOSS_THRESHOLD = 0.05f;
+    /**
+     * The factor the round trip time may grow over its lowest seen value before it counts as congestion.
+     */
+    private static final float RTT_INFLATION_THRESHOLD = 1.5f;
+    /**
+     * The slack, in milliseconds, added to the inflated round trip time so that jitter on a fast link is ignored.
+     */
+    private static final int RTT_SLACK = 20;
+    /**
+     * The fraction of the requested snapshot rate that must actually arrive for the link to count as keeping up.
+     */
+    private static final float THROUGHPUT_THRESHOLD = 0.8f;
+
+    /**
+     * The connection client, used to measure the round trip time.
+     */
+    private final Client client;
+
+    /**
+     * The clock the windows and sends are timed by, in real time.
+     */
+    private final GameClock clock;
+
+    /**
+     * The current interval between movement sends, in milliseconds.
+     */
+    @Getter
+    private int inputInterval = MIN_INPUT_INTERVAL;
+    /**
+     * The current snapshot interval, in milliseconds, that the server is asked to send at.
+     */
+    @Getter
+    private int snapshotInterval = MIN_SNAPSHOT_INTERVAL;
+    /**
+     * The snapshot interval last sent to the server, to only send a request when it changes.
+     */
+    private int requestedSnapshotInterval = MIN_SNAPSHOT_INTERVAL;
+    /**
+     * The lowest round trip time seen, which is taken as the round trip time of an idle link.
+     */
+    private int baseReturnTripTime = Integer.MAX_VALUE;
+    /**
+     * The last measured round trip time, in milliseconds.
+     */
+    @Getter
+    private int returnTripTime = -1;
+    /**
+     * The fraction of snapshots lost in the last window, including those of which only some chunks arrived.
+     */
+    @Getter
+    private float loss;
+    /**
+     * The bytes sent per second in the last window.
+     */
+    @Getter
+    private int bytesSentPerSecond;
+    /**
+     * The snapshots received per second in the last window.
+     */
+    @Getter
+    private int snapshotsPerSecond;
+
+    /**
+     * The highest snapshot ID received so far.
+     */
+    private int highestSnapshotId = -1;
+    /**
+     * The snapshots expected in the current window, based on the snapshot IDs.
+     */
+    private int snapshotsExpected;
+    /**
+     * The snapshots received in the current window.
+     */
+    private int snapshotsReceived;
+    /**
+     * The snapshots in the current window superseded before all of their chunks arrived.
+     */
+    private int snapshotsIncomplete;
+    /**
+     * The bytes sent in the current window.
+     */
+    private int bytesSent;
+    /**
+     * When the current window started.
+     */
+    private long windowStart;
+    /**
+     * When movement was last sent.
+     */
+    private long lastMovementSend;
+
+    /**
+     * Creates a rate controller for a connection.
+     * @param client The connection client to measure.
+     * @param clock The clock to time the windows and sends by.
+     */
+    RateController(Client client, GameClock clock) {
+        this.client = client;
+        this.clock = clock;
+        windowStart = clock.getRealTimeNanos();
+    }
+
+    /**
+     * Records the arrival of a {@link com.github.moribund.net.packets.game.GameStatePacket}. Gaps in the snapshot
+     * IDs count as lost snapshots, while late snapshots are neither lost nor expected again.
+     * @param snapshotId The ID of the snapshot received.
+     */
+    public void snapshotReceived(int snapshotId) {
+        if (highestSnapshotId == -1) {
+            snapshotsExpected++;
+        } else if (snapshotId > highestSnapshotId) {
+            snapshotsExpected += snapshotId - highestSnapshotId;
+        }
+        highestSnapshotId = Math.max(highestSnapshotId, snapshotId);
+        snapshotsReceived++;
+    }
+
+    /**
+     * Records a snapshot that was superseded before all of its chunks arrived. Its missing chunks were lost, so it
+     * counts towards the {@link RateController#loss} like a lost snapshot.
+     */
+    public void snapshotIncomplete() {
+        snapshotsIncomplete++;
+    }
+
+    /**
+     * Forgets the snapshots received, as the snapshot IDs start over with every match. The server also starts every
+     * match at its default snapshot rate, so the rate last asked for is forgotten as well, and the current
+     * {@link RateController#snapshotInterval} is asked for again should it differ.
+     */
+    public void resetSnapshots() {
+        requestedSnapshotInterval = MIN_SNAPSHOT_INTERVAL;
+        highestSnapshotId = -1;
+        snapshotsExpected = 0;
+        snapshotsReceived = 0;
+        snapshotsIncomplete = 0;
+    }
+
+    /**
+     * Gets the highest snapshot ID received so far.
+     * @return The snapshot ID, or {@code -1} if no snapshot has been received.
+     */
+    public int getHighestSnapshotId() {
+        return highestSnapshotId;
+    }
+
+    /**
+     * Records bytes sent to the server.
+     * @param bytes The amount of bytes sent.
+     */
+    void bytesSent(int bytes) {
+        bytesSent += bytes;
+    }
+
+    /**
+     * Checks whether movement should be sent this cycle, and if so, marks it as sent.
+     * @return If movement should be sent to the server.
+     */
+    public boolean isMovementDue() {
+        val now = clock.getRealTimeNanos();
+        if (now - lastMovementSend < inputInterval * 1_000_000L) {
+            return false;
+        }
+        lastMovementSend = now;
+        return true;
+    }
+
+    /**
+     * Updates the controller. This is called every LibGDX game cycle, but only evaluates the link once per
+     * measurement window.
+     */
+    public void update() {
+        val now = clock.getRealTimeNanos();
+        val elapsed = now - windowStart;
+        if (elapsed < WINDOW_NANOS) {
+            return;
+        }
+        windowStart = now;
+        evaluateWindow(elapsed);
+        client.updateReturnTripTime();
+        requestSnapshotInterval();
+    }
+
+    /**
+     * Evaluates the measurements of a finished window and adapts the intervals.
+     * @param elapsed The length of the window in nanoseconds.
+     */
+    private void evaluateWindow(long elapsed) {
+        val seconds = elapsed / 1_000_000_000f;
+        val snapshotsComplete = snapshotsReceived - snapshotsIncomplete;
+        loss = snapshotsExpected == 0 ? 0 : Math.max(0, 1 - (snapshotsComplete / (float) snapshotsExpected));
+        bytesSentPerSecond = (int) (bytesSent / seconds);
+        snapshotsPerSecond = (int) (snapshotsReceived / seconds);
+
+        returnTripTime = client.getReturnTripTime();
+        if (returnTripTime > 0) {
+            baseReturnTripTime = Math.min(baseReturnTripTime, returnTripTime);
+        }
+
+        if (isCongested(seconds)) {
+            inputInterval = Math.min(MAX_INPUT_INTERVAL, (int) (inputInterval * BACK_OFF_FACTOR));
+            snapshotInterval = Math.min(MAX_SNAPSHOT_INTERVAL, (int) (snapshotInterval * BACK_OFF_FACTOR));
+        } else {
+            inputInterval = Math.max(MIN_INPUT_INTERVAL, inputInterval - INPUT_RECOVERY_STEP);
+            snapshotInterval = Math.max(MIN_SNAPSHOT_INTERVAL, snapshotInterval - SNAPSHOT_RECOVERY_STEP);
+        }
+
+        snapshotsExpected = 0;
+        snapshotsReceived = 0;
+        snapshotsIncomplete = 0;
+        bytesSent = 0;
+    }
+
+    /**
+     * Checks the measurements of the window for signs of congestion: snapshots being lost, the round trip time
+     * inflating over that of the idle link, or fewer snapshots arriving than were requested.
+     * @param seconds The length of the window in seconds.
+     * @return If the link is congested.
+     */
+    private boolean isCongested(float seconds) {
+        if (loss > LOSS_THRESHOLD) {
+            return true;
+        }
+        if (returnTripTime > 0 && baseReturnTripTime != Integer.MAX_VALUE
+                && returnTripTime > baseReturnTripTime * RTT_INFLATION_THRESHOLD + RTT_SLACK) {
+            return true;
+        }
+        if (snapshotsExpected == 0) {
+            return false;
+        }
+        val snapshotsRequested = seconds * 1000f / requestedSnapshotInterval;
+        return snapshotsReceived < snapshotsRequested * THROUGHPUT_THRESHOLD;
+    }
+
+    /**
+     * Asks the server for the current {@link RateController#snapshotInterval} should it differ from the last one
+     * asked for.
+     */
+    private void requestSnapshotInterval() {
+        val player = MoribundClient.getInstance().getPlayer();
+        if (player == null || snapshotInterval == requestedSnapshotInterval) {
+            return;
+        }
+        requestedSnapshotInterval = snapshotInterval;
+        val packet = new SnapshotRateRequestPacket(player.getGameId(), player.getPlayerId(), snapshotInterval);
+        MoribundClient.getInstance().getPacketDispatcher().sendTCP(packet);
+    }
+}
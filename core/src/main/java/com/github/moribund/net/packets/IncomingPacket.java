@@ -8,7 +8,7 @@ package com.github.moribund.net.packets;
  */
 public interface IncomingPacket {
     /**
-     * Processes what to do when the packet is received.
+     * Processes what to do when the packet is received. This is called from the render thread.
      */
     void process();
 }
@@ -3,6 +3,7 @@ package com.github.moribund.net.packets.account;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.net.packets.data.GroundItemData;
 import com.github.moribund.net.packets.data.PlayerData;
+import com.github.moribund.net.packets.game.GameStatePacket;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
 import com.github.moribund.objects.nonplayable.items.ItemType;
 import com.github.moribund.objects.playable.players.Player;
@@ -45,10 +46,12 @@ public final class CreateNewPlayerPacket implements IncomingPacket {
 
     /**
      * Spawns all ground items, all players, and sets the {@link com.github.moribund.MoribundClient#player} to the
-     * {@link CreateNewPlayerPacket#playerId}.
+     * {@link CreateNewPlayerPacket#playerId}. The snapshots of any previous match are forgotten, see
+     * {@link GameStatePacket#reset()}.
      */
     @Override
     public void process() {
+        GameStatePacket.reset();
         groundItems.forEach(itemData -> {
             val type = ItemType.getItemType(itemData.getItemId());
             if (type != null) {
@@ -57,15 +60,19 @@ public final class CreateNewPlayerPacket implements IncomingPacket {
             }
         });
         playerData.forEach(data -> {
-            val playerId = data.getPlayerId();
-            val player = PlayerUtils.makePlayer(gameId, playerId, data.getUsername(), data.getX(), data.getY(),
-                    data.getRotation(), data.getHitpoints());
+            if (data.getPlayerId() == playerId) {
+                val player = PlayerUtils.makeLocalPlayer(gameId, playerId, data.getUsername(), data.getX(),
+                        data.getY(), data.getRotation(), data.getHitpoints());
 
-            player.getEquipment().setItemIds(data.getEquipmentItems());
-            player.getInventory().setItemIds(data.getInventoryItems());
+                player.getPendingItemActions().serverStateReceived(data.getInventoryItems(),
+                        data.getEquipmentItems());
+                PlayerUtils.setClientPlayer(player);
+            } else {
+                val player = PlayerUtils.makePlayer(gameId, data.getPlayerId(), data.getUsername(), data.getX(),
+                        data.getY(), data.getRotation(), data.getHitpoints());
 
-            player.updateAppearance();
+                player.getEquipment().setItemIds(data.getEquipmentItems());
+            }
         });
-        PlayerUtils.setClientPlayer(playerId);
     }
 }
@@ -29,4 +29,40 @@ public class ProjectileCollisionPacket implements OutgoingPacket {
      * The projectile ID of the projectile that hit the player.
      */
     private int projectileId;
+
+    /**
+     * The unique ID of the projectile that hit the player. This allows the server to de-duplicate hit reports
+     * of the same projectile without having to compare its type, source and location.
+     */
+    private int uniqueProjectileId;
+
+    /**
+     * The tick of the last frame the client had drawn when it detected the hit. The client drew the world between
+     * this tick and the one before it, at {@link ProjectileCollisionPacket#renderAlpha}, and this drawn state is
+     * what the server rewinds to. The hit itself was found while stepping one of the ticks after it, before the next
+     * frame was drawn.
+     */
+    private long renderTick;
+
+    /**
+     * How far between the tick before the {@link ProjectileCollisionPacket#renderTick} and the render tick the
+     * client drew the world at, from 0 to 1.
+     */
+    private float renderAlpha;
+
+    /**
+     * The ID of the latest snapshot the client had received by the {@link ProjectileCollisionPacket#renderTick},
+     * or {@code -1} if it had received none.
+     */
+    private int snapshotId;
+
+    /**
+     * The x-coordinate the client drew the player collided at.
+     */
+    private float seenX;
+
+    /**
+     * The y-coordinate the client drew the player collided at.
+     */
+    private float seenY;
 }
@@ -0,0 +1,36 @@
+package com.github.moribund.net.packets.combat;
+
+import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.net.packets.data.ProjectileEventData;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+
+/**
+ * A batch of {@link ProjectileEventData} sent by the server. Rather than one packet per projectile spawning
+ * or despawning, the server collects the events of a game cycle and sends them together, in the order they
+ * happened.
+ */
+public final class ProjectileEventsPacket implements IncomingPacket {
+
+    /**
+     * The projectile events, in the order the server enacted them.
+     */
+    private ObjectList<ProjectileEventData> events;
+
+    /**
+     * A private constructor to ensure the client cannot unexpectedly send this
+     * request to the server.
+     */
+    private ProjectileEventsPacket() { }
+
+    /**
+     * Calls {@link Projectile#processEvent(ProjectileEventData)} for each event.
+     */
+    @Override
+    public void process() {
+        if (events == null) {
+            return;
+        }
+        events.forEach(Projectile::processEvent);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.moribund.net.packets.data;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * The data related to a single {@link com.github.moribund.objects.nonplayable.projectile.Projectile} spawning
+ * or despawning to transfer via networking.
+ */
+public class ProjectileEventData implements Serializable {
+
+    /**
+     * The serialization version UID, to allow the client and server to share the same serialization compatibility.
+     */
+    private static final long serialVersionUID = 5508611406619988854L;
+
+    /**
+     * The type of event.
+     */
+    @Getter
+    private ProjectileEventType eventType;
+
+    /**
+     * The unique ID the server assigned to the projectile.
+     */
+    @Getter
+    private int uniqueProjectileId;
+
+    /**
+     * The player ID of the player that launched the projectile. Only used by {@link ProjectileEventType#SPAWN}.
+     */
+    @Getter
+    private int sourcePlayerId;
+
+    /**
+     * The ID of the projectile in accordance to {@link com.github.moribund.objects.nonplayable.projectile.ProjectileType}.
+     * Only used by {@link ProjectileEventType#SPAWN}.
+     */
+    @Getter
+    private int projectileId;
+
+    /**
+     * The x-coordinate of the projectile.
+     */
+    @Getter
+    private float x;
+
+    /**
+     * The y-coordinate of the projectile.
+     */
+    @Getter
+    private float y;
+
+    /**
+     * The rotation angle of the projectile.
+     */
+    @Getter
+    private float rotation;
+
+    /**
+     * The movement speed of the projectile. Only used by {@link ProjectileEventType#SPAWN}.
+     */
+    @Getter
+    private int movementSpeed;
+}
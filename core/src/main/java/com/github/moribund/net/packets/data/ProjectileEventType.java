@@ -0,0 +1,17 @@
+package com.github.moribund.net.packets.data;
+
+/**
+ * The different types of {@link ProjectileEventData}.
+ */
+public enum ProjectileEventType {
+    /**
+     * The projectile has been launched by the server. Should the client already know of the projectile, its
+     * location and rotation are corrected instead.
+     */
+    SPAWN,
+
+    /**
+     * The projectile no longer exists on the server.
+     */
+    DESPAWN
+}
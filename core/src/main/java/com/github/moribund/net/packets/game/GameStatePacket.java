@@ -1,10 +1,9 @@
 package com.github.moribund.net.packets.game;
 
+import com.badlogic.gdx.utils.Pool;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
-import com.github.moribund.net.packets.data.PlayerData;
 import com.github.moribund.objects.playable.players.Player;
-import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.val;
 
 /**
@@ -14,33 +13,269 @@ import lombok.val;
  * operates with a priority to the server, so all existing configurations of players
  * locations and rotations will be overridden with these configurations sent by
  * the server.
+ *
+ * <p>
+ * A snapshot that does not fit into {@link GameStatePacket#SAFE_DATAGRAM_SIZE} bytes is split by the server into
+ * several chunks, each a {@code GameStatePacket} with the same {@link GameStatePacket#snapshotId} and a subset of
+ * the player records. See {@link SnapshotAssembler} for how the chunks are applied.
+ *
+ * <p>
+ * The player records are kept as columns of primitives, as decoded by the {@link GameStatePacketSerializer}, with the
+ * item IDs of all records in one array each and offsets into them per record. Packets are pooled along with their
+ * columns, which only grow, so decoding a snapshot does not allocate once the pool is warm.
  */
 public final class GameStatePacket implements IncomingPacket {
 
     /**
-     * The locations of all {@link Player}s in the game at the moment.
+     * The largest a single {@code GameStatePacket} may be once serialized, in bytes. This stays under the common
+     * 1280 byte IPv6 minimum MTU once the IP and UDP headers are added, so a chunk is never fragmented at the IP
+     * layer, and under the client's UDP object buffer.
      */
-    private ObjectList<PlayerData> playerData;
+    public static final int SAFE_DATAGRAM_SIZE = 1200;
 
     /**
-     * A private constructor to ensure the client cannot unexpectedly send this
-     * request to the server.
+     * The assembler of the chunks of snapshots.
      */
-    private GameStatePacket() { }
+    private static final SnapshotAssembler ASSEMBLER = new SnapshotAssembler();
+
+    /**
+     * The pool of packets. Packets are obtained by the {@link GameStatePacketSerializer} on the network thread and
+     * freed once processed on the render thread, so the pool is synchronized. It holds a few more packets than
+     * are ever in flight between the two at the snapshot rate.
+     */
+    private static final Pool<GameStatePacket> POOL = new Pool<GameStatePacket>(4, 16) {
+        @Override
+        protected GameStatePacket newObject() {
+            return new GameStatePacket();
+        }
+
+        @Override
+        public synchronized GameStatePacket obtain() {
+            return super.obtain();
+        }
+
+        @Override
+        public synchronized void free(GameStatePacket packet) {
+            super.free(packet);
+        }
+    };
+
+    /**
+     * The most item IDs applied to a single container.
+     */
+    private static final int MAX_CONTAINER_SIZE = 32;
+
+    /**
+     * The reused buffer a record's inventory item IDs are copied into to be applied. Packets are only processed on
+     * the render thread, so one buffer is shared by all.
+     */
+    private static final int[] INVENTORY_SCRATCH = new int[MAX_CONTAINER_SIZE];
+
+    /**
+     * The reused buffer a record's equipment item IDs are copied into to be applied.
+     */
+    private static final int[] EQUIPMENT_SCRATCH = new int[MAX_CONTAINER_SIZE];
+
+    /**
+     * The ID of this snapshot. The server increments it for every snapshot sent, which allows the client to
+     * detect lost snapshots.
+     */
+    int snapshotId;
+
+    /**
+     * The time of the server when the snapshot was taken, in milliseconds, from which the
+     * {@link com.github.moribund.simulation.GameClock} estimates the server time.
+     */
+    long serverTime;
+
+    /**
+     * The index of this chunk within the snapshot.
+     */
+    int chunkIndex;
+
+    /**
+     * The amount of chunks the snapshot is split into.
+     */
+    int chunkCount = 1;
+
+    /**
+     * The amount of player records in this chunk.
+     */
+    int playerCount;
+
+    /**
+     * The player IDs of the {@link Player}s in this chunk.
+     */
+    int[] playerIds = new int[0];
+
+    /**
+     * The x-coordinates of the players, by record.
+     */
+    float[] xs = new float[0];
+
+    /**
+     * The y-coordinates of the players, by record.
+     */
+    float[] ys = new float[0];
+
+    /**
+     * The rotation angles of the players, by record.
+     */
+    float[] rotations = new float[0];
+
+    /**
+     * The current hitpoints of the players, by record.
+     */
+    int[] hitpoints = new int[0];
+
+    /**
+     * The offsets into {@link GameStatePacket#inventoryItems} at which the inventory of each record starts, with
+     * one more offset marking the end of the last inventory.
+     */
+    int[] inventoryOffsets = new int[0];
+
+    /**
+     * The inventory item IDs of every record, one after the other.
+     */
+    int[] inventoryItems = new int[0];
+
+    /**
+     * The offsets into {@link GameStatePacket#equipmentItems} at which the equipment of each record starts, with
+     * one more offset marking the end of the last equipment.
+     */
+    int[] equipmentOffsets = new int[0];
+
+    /**
+     * The equipment item IDs of every record, one after the other.
+     */
+    int[] equipmentItems = new int[0];
+
+    /**
+     * Makes a packet to be filled in by the {@link GameStatePacketSerializer}. The client never sends this packet
+     * to the server.
+     */
+    GameStatePacket() { }
+
+    /**
+     * Obtains a packet from the pool with room for an amount of player records.
+     * @param playerCount The amount of player records.
+     * @return The packet, to be freed through {@link GameStatePacket#free()} once processed.
+     */
+    static GameStatePacket obtain(int playerCount) {
+        val packet = POOL.obtain();
+        packet.ensureCapacity(playerCount);
+        packet.playerCount = playerCount;
+        return packet;
+    }
+
+    /**
+     * Grows the columns of the player records, without keeping their contents, should they be too small.
+     * @param playerCount The amount of player records.
+     */
+    private void ensureCapacity(int playerCount) {
+        if (playerIds.length >= playerCount) {
+            return;
+        }
+        playerIds = new int[playerCount];
+        xs = new float[playerCount];
+        ys = new float[playerCount];
+        rotations = new float[playerCount];
+        hitpoints = new int[playerCount];
+        inventoryOffsets = new int[playerCount + 1];
+        equipmentOffsets = new int[playerCount + 1];
+    }
+
+    /**
+     * Frees the packet back into the pool.
+     */
+    void free() {
+        POOL.free(this);
+    }
 
     @Override
     public void process() {
-        playerData.forEach(data -> {
-            val player = MoribundClient.getInstance().getPlayers().get(data.getPlayerId());
-            if (player != null) {
-                player.setX(data.getX());
-                player.setY(data.getY());
-                player.setRotation(data.getRotation());
-                player.setHitpoints(data.getHitpoints());
-                player.getInventory().setItemIds(data.getInventoryItems());
-                player.getEquipment().setItemIds(data.getEquipmentItems());
+        if (acceptChunk(snapshotId, serverTime, chunkIndex, chunkCount)) {
+            for (int i = 0; i < playerCount; i++) {
+                applyPlayerState(i);
             }
-        });
+        }
+        free();
+    }
+
+    /**
+     * Checks whether a chunk of a snapshot should be applied. The arrival of a new snapshot is recorded with the
+     * {@link com.github.moribund.net.RateController}, as is the previous snapshot should it have been left
+     * incomplete, and its server time with the {@link com.github.moribund.simulation.GameClock}.
+     * @param snapshotId The ID of the snapshot.
+     * @param serverTime The time of the server when the snapshot was taken, in milliseconds.
+     * @param chunkIndex The index of the chunk within the snapshot.
+     * @param chunkCount The amount of chunks the snapshot is split into.
+     * @return If the records of the chunk should be applied.
+     * @see SnapshotAssembler#accept(int, int, int)
+     */
+    private static boolean acceptChunk(int snapshotId, long serverTime, int chunkIndex, int chunkCount) {
+        val previousIncomplete = ASSEMBLER.isIncomplete();
+        switch (ASSEMBLER.accept(snapshotId, chunkIndex, chunkCount)) {
+            case NEW_SNAPSHOT:
+                val client = MoribundClient.getInstance();
+                if (previousIncomplete) {
+                    client.getRateController().snapshotIncomplete();
+                }
+                client.getRateController().snapshotReceived(snapshotId);
+                client.getClock().serverTimeReceived(serverTime, client.getRateController().getReturnTripTime());
+                return true;
+            case ACCEPTED:
+                return true;
+            default:
+                return false;
+        }
+    }
 
+    /**
+     * Forgets the snapshots of the previous match, both those assembled and those measured by the
+     * {@link com.github.moribund.net.RateController}. The server starts the snapshot IDs of every match over, so
+     * this is called whenever a match starts or ends.
+     */
+    public static void reset() {
+        ASSEMBLER.reset();
+        MoribundClient.getInstance().getRateController().resetSnapshots();
+    }
+
+    /**
+     * Applies the state of a single player in this chunk.
+     * @param record The index of the player's record.
+     */
+    private void applyPlayerState(int record) {
+        val player = MoribundClient.getInstance().getPlayers().get(playerIds[record]);
+        if (player == null) {
+            return;
+        }
+        player.setX(xs[record]);
+        player.setY(ys[record]);
+        player.setRotation(rotations[record]);
+        player.setHitpoints(hitpoints[record]);
+        val equipmentSize = copyItems(equipmentItems, equipmentOffsets, record, EQUIPMENT_SCRATCH);
+        val localPlayer = MoribundClient.getInstance().getPlayer();
+        if (player == localPlayer) {
+            val inventorySize = copyItems(inventoryItems, inventoryOffsets, record, INVENTORY_SCRATCH);
+            localPlayer.getPendingItemActions().serverStateReceived(INVENTORY_SCRATCH, inventorySize,
+                    EQUIPMENT_SCRATCH, equipmentSize);
+        } else {
+            player.getEquipment().setItemIds(EQUIPMENT_SCRATCH, equipmentSize);
+        }
+    }
+
+    /**
+     * Copies the item IDs of a single record into a scratch buffer. IDs past the buffer's capacity are dropped.
+     * @param items The item IDs of every record.
+     * @param offsets The offsets of each record's item IDs.
+     * @param record The index of the record.
+     * @param scratch The scratch buffer to copy into.
+     * @return The amount of item IDs copied.
+     */
+    private static int copyItems(int[] items, int[] offsets, int record, int[] scratch) {
+        val size = Math.min(offsets[record + 1] - offsets[record], scratch.length);
+        System.arraycopy(items, offsets[record], scratch, 0, size);
+        return size;
     }
 }
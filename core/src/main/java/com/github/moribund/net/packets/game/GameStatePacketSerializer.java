@@ -0,0 +1,112 @@
+package com.github.moribund.net.packets.game;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import lombok.val;
+
+/**
+ * A hand-written {@link Serializer} for the {@link GameStatePacket}. Rather than sending the player records through
+ * {@link com.esotericsoftware.kryo.serializers.JavaSerializer}, each record is written as fixed-width primitives
+ * straight to the connection's buffer, and read into the primitive columns of a pooled {@link GameStatePacket}.
+ * No object is made per record, nor per packet once the pool is warm, and the packet is applied on the render
+ * thread like any other.
+ *
+ * @implNote The wire format, which the server must share, is
+ * {@code int snapshotId, varlong serverTime, varint chunkIndex, varint chunkCount, varint count} followed by
+ * {@code count} records of {@code int playerId, float x, float y, float rotation, varint hitpoints,
+ * varint inventorySize, varint... inventoryItems, varint equipmentSize, varint... equipmentItems}.
+ */
+public final class GameStatePacketSerializer extends Serializer<GameStatePacket> {
+
+    public GameStatePacketSerializer() {
+        setImmutable(true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, GameStatePacket packet) {
+        output.writeInt(packet.snapshotId);
+        output.writeLong(packet.serverTime, true);
+        output.writeInt(packet.chunkIndex, true);
+        output.writeInt(packet.chunkCount, true);
+        val count = packet.playerCount;
+        output.writeInt(count, true);
+        for (int i = 0; i < count; i++) {
+            output.writeInt(packet.playerIds[i]);
+            output.writeFloat(packet.xs[i]);
+            output.writeFloat(packet.ys[i]);
+            output.writeFloat(packet.rotations[i]);
+            output.writeInt(packet.hitpoints[i], true);
+            writeItems(output, packet.inventoryItems, packet.inventoryOffsets, i);
+            writeItems(output, packet.equipmentItems, packet.equipmentOffsets, i);
+        }
+    }
+
+    /**
+     * Writes the item IDs of a single record as their amount followed by the IDs.
+     * @param output The output to write to.
+     * @param items The item IDs of every record.
+     * @param offsets The offsets of each record's item IDs.
+     * @param record The index of the record.
+     */
+    private void writeItems(Output output, int[] items, int[] offsets, int record) {
+        val start = offsets[record];
+        val end = offsets[record + 1];
+        output.writeInt(end - start, true);
+        for (int i = start; i < end; i++) {
+            output.writeInt(items[i], true);
+        }
+    }
+
+    @Override
+    public GameStatePacket read(Kryo kryo, Input input, Class<GameStatePacket> type) {
+        val snapshotId = input.readInt();
+        val serverTime = input.readLong(true);
+        val chunkIndex = input.readInt(true);
+        val chunkCount = input.readInt(true);
+        val count = input.readInt(true);
+        val packet = GameStatePacket.obtain(count);
+        packet.snapshotId = snapshotId;
+        packet.serverTime = serverTime;
+        packet.chunkIndex = chunkIndex;
+        packet.chunkCount = chunkCount;
+        packet.inventoryOffsets[0] = 0;
+        packet.equipmentOffsets[0] = 0;
+        int[] inventoryItems = packet.inventoryItems;
+        int[] equipmentItems = packet.equipmentItems;
+        for (int i = 0; i < count; i++) {
+            packet.playerIds[i] = input.readInt();
+            packet.xs[i] = input.readFloat();
+            packet.ys[i] = input.readFloat();
+            packet.rotations[i] = input.readFloat();
+            packet.hitpoints[i] = input.readInt(true);
+            inventoryItems = readItems(input, inventoryItems, packet.inventoryOffsets, i);
+            equipmentItems = readItems(input, equipmentItems, packet.equipmentOffsets, i);
+        }
+        packet.inventoryItems = inventoryItems;
+        packet.equipmentItems = equipmentItems;
+        return packet;
+    }
+
+    /**
+     * Reads the item IDs of a single record onto the end of a column, growing it if needed. A grown column is kept
+     * by the pooled packet, so it rarely grows again.
+     * @param input The input to read from.
+     * @param items The item IDs of the records read so far.
+     * @param offsets The offsets of each record's item IDs, of which the end of this record's is set.
+     * @param record The index of the record.
+     * @return The column of item IDs, which may have been grown into a new array.
+     */
+    private int[] readItems(Input input, int[] items, int[] offsets, int record) {
+        val size = input.readInt(true);
+        val start = offsets[record];
+        items = IntArrays.grow(items, start + size);
+        for (int i = 0; i < size; i++) {
+            items[start + i] = input.readInt(true);
+        }
+        offsets[record + 1] = start + size;
+        return items;
+    }
+}
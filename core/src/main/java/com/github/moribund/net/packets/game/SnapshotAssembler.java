@@ -0,0 +1,102 @@
+package com.github.moribund.net.packets.game;
+
+import lombok.val;
+
+/**
+ * The {@code SnapshotAssembler} keeps track of the chunks of the {@link GameStatePacket} currently arriving. A
+ * snapshot too big for a single {@link GameStatePacket#SAFE_DATAGRAM_SIZE} datagram is split by the server into
+ * chunks, each holding a self-contained subset of the players' records. Each chunk is therefore applied as soon
+ * as it arrives; should a chunk get lost, the players in it simply keep the state of the previous snapshot.
+ *
+ * <p>
+ * What the assembler guards against is applying data older than what has already been applied: chunks of a
+ * snapshot older than the newest one seen, and duplicated chunks, are rejected.
+ */
+final class SnapshotAssembler {
+
+    /**
+     * The most chunks a snapshot may be split into, bound by the width of {@link SnapshotAssembler#receivedChunks}.
+     */
+    static final int MAX_CHUNKS = Long.SIZE;
+
+    /**
+     * The ID of the newest snapshot a chunk has been received of.
+     */
+    private int snapshotId = -1;
+
+    /**
+     * The amount of chunks the newest snapshot is split into.
+     */
+    private int chunkCount;
+
+    /**
+     * The chunks received of the newest snapshot, one bit per chunk index.
+     */
+    private long receivedChunks;
+
+    /**
+     * Checks whether a chunk should be applied, and if so, marks it as received.
+     * @param snapshotId The ID of the snapshot the chunk belongs to.
+     * @param chunkIndex The index of the chunk within the snapshot.
+     * @param chunkCount The amount of chunks the snapshot is split into.
+     * @return The result of accepting the chunk.
+     */
+    ChunkResult accept(int snapshotId, int chunkIndex, int chunkCount) {
+        if (chunkIndex < 0 || chunkIndex >= Math.min(chunkCount, MAX_CHUNKS)) {
+            return ChunkResult.REJECTED;
+        }
+        if (snapshotId < this.snapshotId) {
+            return ChunkResult.REJECTED;
+        }
+        if (snapshotId > this.snapshotId) {
+            this.snapshotId = snapshotId;
+            this.chunkCount = chunkCount;
+            receivedChunks = 1L << chunkIndex;
+            return ChunkResult.NEW_SNAPSHOT;
+        }
+        val bit = 1L << chunkIndex;
+        if ((receivedChunks & bit) != 0) {
+            return ChunkResult.REJECTED;
+        }
+        receivedChunks |= bit;
+        return ChunkResult.ACCEPTED;
+    }
+
+    /**
+     * Checks whether a chunk has been received of the newest snapshot, but not all of its chunks have arrived.
+     * Once a chunk of a newer snapshot arrives, the missing chunks are superseded and the snapshot stays incomplete.
+     * @return If the newest snapshot is missing chunks.
+     */
+    boolean isIncomplete() {
+        return snapshotId != -1 && Long.bitCount(receivedChunks) < chunkCount;
+    }
+
+    /**
+     * Forgets every snapshot received, so that the snapshot IDs of a new match, which start over, are accepted.
+     */
+    void reset() {
+        snapshotId = -1;
+        chunkCount = 0;
+        receivedChunks = 0;
+    }
+
+    /**
+     * The result of {@link SnapshotAssembler#accept(int, int, int)}.
+     */
+    enum ChunkResult {
+        /**
+         * The chunk is the first one received of a newer snapshot and should be applied.
+         */
+        NEW_SNAPSHOT,
+
+        /**
+         * The chunk belongs to the newest snapshot and should be applied.
+         */
+        ACCEPTED,
+
+        /**
+         * The chunk is stale or a duplicate and must not be applied.
+         */
+        REJECTED
+    }
+}
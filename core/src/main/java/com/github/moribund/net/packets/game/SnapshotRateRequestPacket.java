@@ -0,0 +1,27 @@
+package com.github.moribund.net.packets.game;
+
+import com.github.moribund.net.packets.OutgoingPacket;
+import lombok.Value;
+
+/**
+ * A packet sent by the client asking the server to send it {@link GameStatePacket}s at a different interval,
+ * as decided by the {@link com.github.moribund.net.RateController} from the quality of the link.
+ */
+@Value
+public class SnapshotRateRequestPacket implements OutgoingPacket {
+
+    /**
+     * The game ID of the player.
+     */
+    private int gameId;
+
+    /**
+     * The player ID of the player.
+     */
+    private int playerId;
+
+    /**
+     * The interval, in milliseconds, the server is asked to send snapshots at.
+     */
+    private int snapshotInterval;
+}
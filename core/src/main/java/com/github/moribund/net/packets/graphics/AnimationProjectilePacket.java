@@ -27,20 +27,47 @@ public class AnimationProjectilePacket implements IncomingPacket {
      */
     private int projectileId;
 
+    /**
+     * The unique ID the server assigned to the projectile that is being shot. This is what identifies this
+     * particular {@link com.github.moribund.objects.nonplayable.projectile.Projectile} in
+     * {@link MoribundClient#projectiles}, rather than its type.
+     */
+    private int uniqueProjectileId;
+
     /**
      * The velocity of the animation to move at to define {@link com.github.moribund.objects.nonplayable.projectile.Projectile#movementSpeed}.
      */
     private int movementSpeed;
 
     /**
-     * Calls {@link com.github.moribund.objects.playable.players.PlayableCharacter#animateThenLaunch(Animation, ProjectileType, int)}
+     * The {@link com.github.moribund.net.packets.input.MouseClickedPacket#sequence} of the click the shot results
+     * from, or {@code 0} should the shot not come from a click of this client.
+     */
+    private int clientSequence;
+
+    /**
+     * Reconciles the shot with the one the player of this client predicted on the click, should there be one.
+     * Otherwise calls {@link com.github.moribund.objects.playable.players.PlayableCharacter#animateThenLaunch(Animation, ProjectileType, int, int)}.
      */
     @Override
     public void process() {
-        val player =  MoribundClient.getInstance().getPlayers().get(playerId);
+        val client = MoribundClient.getInstance();
+        val player = client.getPlayers().get(playerId);
+        if (player == null) {
+            return;
+        }
         val animation = Animation.getForId(animationId);
         val projectile = ProjectileType.getForId(projectileId);
+        if (projectile == null) {
+            return;
+        }
+        projectile.speedLaunched(movementSpeed);
 
-        player.animateThenLaunch(animation, projectile, movementSpeed);
+        val localPlayer = client.getPlayer();
+        if (clientSequence != 0 && player == localPlayer
+                && localPlayer.reconcileShot(clientSequence, projectile, movementSpeed, uniqueProjectileId)) {
+            return;
+        }
+        player.animateThenLaunch(animation, projectile, movementSpeed, uniqueProjectileId);
     }
 }
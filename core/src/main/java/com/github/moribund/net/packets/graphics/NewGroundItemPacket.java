@@ -1,5 +1,6 @@
 package com.github.moribund.net.packets.graphics;
 
+import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
 import com.github.moribund.objects.nonplayable.items.ItemType;
@@ -36,6 +37,11 @@ public final class NewGroundItemPacket implements IncomingPacket {
         if (itemType == null) {
             return;
         }
+        val player = MoribundClient.getInstance().getPlayer();
+        if (player != null) {
+            // the ground item the local player's drop put down ahead of the server makes way for the server's
+            player.getPendingItemActions().claimDroppedItem(itemId);
+        }
         val groundItem = new GroundItem(itemType, x, y);
         GroundItem.addGroundItem(groundItem);
     }
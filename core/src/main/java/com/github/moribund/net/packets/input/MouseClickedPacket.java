@@ -18,4 +18,11 @@ public class MouseClickedPacket implements OutgoingPacket {
      * The player ID of the player in the game.
      */
     private int playerId;
+
+    /**
+     * The sequence number of the click, counting up from {@code 1}, which the server echoes in the
+     * {@link com.github.moribund.net.packets.graphics.AnimationProjectilePacket} of the shot it results in so that
+     * the shot the client predicted can be reconciled with it.
+     */
+    private int sequence;
 }
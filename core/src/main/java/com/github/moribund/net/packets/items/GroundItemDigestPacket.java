@@ -0,0 +1,28 @@
+package com.github.moribund.net.packets.items;
+
+import com.github.moribund.net.packets.OutgoingPacket;
+import lombok.Value;
+
+/**
+ * A packet sent by the client with the digest of the {@link com.github.moribund.objects.nonplayable.items.GroundItem}s
+ * it has, for the server to reply with a {@link GroundItemResyncPacket} of the buckets that differ.
+ * @see com.github.moribund.objects.nonplayable.items.GroundItemDigest
+ */
+@Value
+public class GroundItemDigestPacket implements OutgoingPacket {
+
+    /**
+     * The game ID of the player.
+     */
+    private int gameId;
+
+    /**
+     * The player ID of the player.
+     */
+    private int playerId;
+
+    /**
+     * The hash of every bucket slot, indexed by slot.
+     */
+    private int[] bucketHashes;
+}
@@ -0,0 +1,58 @@
+package com.github.moribund.net.packets.items;
+
+import com.github.moribund.MoribundClient;
+import com.github.moribund.net.packets.IncomingPacket;
+import com.github.moribund.net.packets.data.GroundItemData;
+import com.github.moribund.objects.nonplayable.items.GroundItem;
+import com.github.moribund.objects.nonplayable.items.GroundItemDigest;
+import com.github.moribund.objects.nonplayable.items.ItemType;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+/**
+ * A packet sent by the server in reply to a {@link GroundItemDigestPacket}, holding the authoritative
+ * {@link GroundItem}s of every bucket slot whose hash differed from the client's.
+ */
+public final class GroundItemResyncPacket implements IncomingPacket {
+
+    /**
+     * The bucket slots that differed.
+     */
+    private int[] slots;
+
+    /**
+     * The {@link GroundItemData} of all the ground items in the differing slots.
+     */
+    private ObjectList<GroundItemData> groundItems;
+
+    /**
+     * A private constructor to ensure the client cannot unexpectedly send this
+     * request to the server.
+     */
+    private GroundItemResyncPacket() { }
+
+    /**
+     * Removes every ground item in the differing slots and spawns the server's ground items in their place. Ground
+     * items in other slots are left untouched.
+     */
+    @Override
+    public void process() {
+        val resyncedSlots = new IntOpenHashSet(slots);
+        val client = MoribundClient.getInstance();
+        val iterator = client.getGroundItems().iterator();
+        while (iterator.hasNext()) {
+            val groundItem = iterator.next();
+            if (resyncedSlots.contains(GroundItemDigest.slotOf(groundItem.getX(), groundItem.getY()))) {
+                iterator.remove();
+                client.getGroundItemGrid().remove(groundItem);
+            }
+        }
+        groundItems.forEach(itemData -> {
+            val type = ItemType.getItemType(itemData.getItemId());
+            if (type != null && resyncedSlots.contains(GroundItemDigest.slotOf(itemData.getX(), itemData.getY()))) {
+                GroundItem.addGroundItem(new GroundItem(type, itemData.getX(), itemData.getY()));
+            }
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.github.moribund.MoribundClient;
 import com.github.moribund.net.packets.IncomingPacket;
 import com.github.moribund.net.packets.OutgoingPacket;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import lombok.val;
 
 /**
@@ -54,19 +55,24 @@ public final class PickupItemPacket implements OutgoingPacket, IncomingPacket {
 
     @Override
     public void process() {
+        val player = MoribundClient.getInstance().getPlayer();
+        if (player != null) {
+            player.getPendingItemActions().groundItemRemoved(itemId, x, y);
+        }
         val groundItem = getGroundItem();
         if (groundItem != null) {
-            MoribundClient.getInstance().getGroundItems().remove(groundItem);
-            MoribundClient.getInstance().getDrawableGameAssets().remove(groundItem);
+            GroundItem.removeGroundItem(groundItem);
         }
     }
 
     /**
-     * Gets a ground item using the above fields.
+     * Gets a ground item using the above fields, looking only at the ground items around its location.
      * @return The ground item found.
      */
     private GroundItem getGroundItem() {
-        for (GroundItem groundItem : MoribundClient.getInstance().getGroundItems()) {
+        val candidates = new ObjectArrayList<GroundItem>();
+        MoribundClient.getInstance().getGroundItemGrid().query(x, y, x, y, candidates);
+        for (GroundItem groundItem : candidates) {
             if (groundItem.matches(itemId, x, y)) {
                 return groundItem;
             }
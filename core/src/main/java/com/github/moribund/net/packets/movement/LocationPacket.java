@@ -16,22 +16,22 @@ public final class LocationPacket implements IncomingPacket, OutgoingPacket {
     /**
      * The game ID of the player at the tile.
      */
-    private final int gameId;
+    final int gameId;
 
     /**
      * The player ID of the player that is at the given tile.
      */
-    private final int playerId;
+    final int playerId;
 
     /**
      * The x location of the player.
      */
-    private final float x;
+    final float x;
 
     /**
      * The y location of the player.
      */
-    private final float y;
+    final float y;
 
     public LocationPacket(int gameId, int playerId, float x, float y) {
         this.gameId = gameId;
@@ -50,6 +50,9 @@ public final class LocationPacket implements IncomingPacket, OutgoingPacket {
     @Override
     public void process() {
         val player = MoribundClient.getInstance().getPlayers().get(playerId);
+        if (player == null) {
+            return;
+        }
         player.setX(x);
         player.setY(y);
     }
@@ -0,0 +1,38 @@
+package com.github.moribund.net.packets.movement;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import lombok.val;
+
+/**
+ * A hand-written {@link Serializer} for the {@link LocationPacket}. The fields are written as fixed-width
+ * primitives straight to the connection's buffer rather than through Kryo's reflective
+ * {@link com.esotericsoftware.kryo.serializers.FieldSerializer}.
+ *
+ * @implNote The wire format is {@code int gameId, int playerId, float x, float y}, which the server must share.
+ */
+public final class LocationPacketSerializer extends Serializer<LocationPacket> {
+
+    public LocationPacketSerializer() {
+        setImmutable(true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, LocationPacket packet) {
+        output.writeInt(packet.gameId);
+        output.writeInt(packet.playerId);
+        output.writeFloat(packet.x);
+        output.writeFloat(packet.y);
+    }
+
+    @Override
+    public LocationPacket read(Kryo kryo, Input input, Class<LocationPacket> type) {
+        val gameId = input.readInt();
+        val playerId = input.readInt();
+        val x = input.readFloat();
+        val y = input.readFloat();
+        return new LocationPacket(gameId, playerId, x, y);
+    }
+}
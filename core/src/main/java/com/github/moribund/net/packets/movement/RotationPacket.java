@@ -16,17 +16,17 @@ public final class RotationPacket implements IncomingPacket, OutgoingPacket {
     /**
      * The game ID of the player.
      */
-    private final int gameId;
+    final int gameId;
 
     /**
      * The player ID of the player that is finished rotating.
      */
-    private final int playerId;
+    final int playerId;
 
     /**
      * The angle at which the player is now.
      */
-    private final float angle;
+    final float angle;
 
     public RotationPacket(int gameId, int playerId, float angle) {
         this.gameId = gameId;
@@ -43,6 +43,9 @@ public final class RotationPacket implements IncomingPacket, OutgoingPacket {
     @Override
     public void process() {
         val player = MoribundClient.getInstance().getPlayers().get(playerId);
+        if (player == null) {
+            return;
+        }
         player.setRotation(angle);
     }
 }
@@ -0,0 +1,36 @@
+package com.github.moribund.net.packets.movement;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import lombok.val;
+
+/**
+ * A hand-written {@link Serializer} for the {@link RotationPacket}. The fields are written as fixed-width
+ * primitives straight to the connection's buffer rather than through Kryo's reflective
+ * {@link com.esotericsoftware.kryo.serializers.FieldSerializer}.
+ *
+ * @implNote The wire format is {@code int gameId, int playerId, float angle}, which the server must share.
+ */
+public final class RotationPacketSerializer extends Serializer<RotationPacket> {
+
+    public RotationPacketSerializer() {
+        setImmutable(true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, RotationPacket packet) {
+        output.writeInt(packet.gameId);
+        output.writeInt(packet.playerId);
+        output.writeFloat(packet.angle);
+    }
+
+    @Override
+    public RotationPacket read(Kryo kryo, Input input, Class<RotationPacket> type) {
+        val gameId = input.readInt();
+        val playerId = input.readInt();
+        val angle = input.readFloat();
+        return new RotationPacket(gameId, playerId, angle);
+    }
+}
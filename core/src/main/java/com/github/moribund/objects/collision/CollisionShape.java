@@ -0,0 +1,314 @@
+package com.github.moribund.objects.collision;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.github.moribund.graphics.sprites.SpriteVertices;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The {@code CollisionShape} of an entity is the convex decomposition of its {@link SpriteVertices}, placed at the
+ * entity's location and rotation. The transformed vertices and bounding rectangles of the pieces are cached, and
+ * only recomputed once the shape has been moved or rotated since they were last needed.
+ *
+ * <p>
+ * Two shapes are tested for overlap by first comparing their bounding rectangles, then the bounding rectangles of
+ * each pair of pieces, and only then the pieces themselves with the separating axis test.
+ *
+ * <p>
+ * A shape that moved during a step can instead be tested by the volume it swept, see
+ * {@link CollisionShape#overlapsSwept(CollisionShape, float, float)}. Each thread running swept tests has its own
+ * scratch buffers, so a shape may be swept against others from several threads at once, provided none of the shapes
+ * involved are moved and their bounds have been computed beforehand (see {@link CollisionShape#getBounds()}).
+ */
+public final class CollisionShape {
+
+    /**
+     * The scratch buffers of the swept tests run by each thread.
+     */
+    private static final ThreadLocal<SweepBuffers> SWEEP_BUFFERS = ThreadLocal.withInitial(SweepBuffers::new);
+
+    /**
+     * The convex pieces of the shape, each caching its own transformed vertices.
+     */
+    private final Polygon[] pieces;
+
+    /**
+     * The bounding rectangle of each piece.
+     */
+    private final Rectangle[] pieceBounds;
+
+    /**
+     * The bounding rectangle of the whole shape.
+     */
+    private final Rectangle bounds;
+
+    /**
+     * The x-coordinate of the shape.
+     */
+    @Getter
+    private float x;
+
+    /**
+     * The y-coordinate of the shape.
+     */
+    @Getter
+    private float y;
+
+    /**
+     * The rotation of the shape, in degrees.
+     */
+    @Getter
+    private float rotation;
+
+    /**
+     * Whether the shape was moved or rotated since the bounding rectangles were computed.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Creates a shape out of the convex pieces of a {@link SpriteVertices}, rotating around the center of the sprite.
+     * @param spriteVertices The vertices of the sprite.
+     */
+    public CollisionShape(SpriteVertices spriteVertices) {
+        val convexPieces = spriteVertices.getConvexPieces();
+        pieces = new Polygon[convexPieces.length];
+        pieceBounds = new Rectangle[convexPieces.length];
+        for (int i = 0; i < convexPieces.length; i++) {
+            pieces[i] = new Polygon(convexPieces[i]);
+            pieces[i].setOrigin(spriteVertices.getOriginX(), spriteVertices.getOriginY());
+            pieceBounds[i] = new Rectangle();
+        }
+        bounds = new Rectangle();
+    }
+
+    /**
+     * Sets the location of the shape.
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     */
+    public void setPosition(float x, float y) {
+        if (this.x == x && this.y == y) {
+            return;
+        }
+        this.x = x;
+        this.y = y;
+        for (Polygon piece : pieces) {
+            piece.setPosition(x, y);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Sets the rotation of the shape.
+     * @param rotation The rotation, in degrees.
+     */
+    public void setRotation(float rotation) {
+        if (this.rotation == rotation) {
+            return;
+        }
+        this.rotation = rotation;
+        for (Polygon piece : pieces) {
+            piece.setRotation(rotation);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Gets the bounding rectangle of the whole shape.
+     * @return The bounding rectangle, which must not be modified.
+     */
+    public Rectangle getBounds() {
+        updateBounds();
+        return bounds;
+    }
+
+    /**
+     * Checks whether this shape overlaps another.
+     * @param other The other shape.
+     * @return If the shapes overlap.
+     */
+    public boolean overlaps(CollisionShape other) {
+        if (!getBounds().overlaps(other.getBounds())) {
+            return false;
+        }
+        for (int i = 0; i < pieces.length; i++) {
+            if (!pieceBounds[i].overlaps(other.bounds)) {
+                continue;
+            }
+            for (int j = 0; j < other.pieces.length; j++) {
+                if (pieceBounds[i].overlaps(other.pieceBounds[j])
+                        && Intersector.overlapConvexPolygons(pieces[i], other.pieces[j])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the volume this shape swept during a step overlaps another shape, so that a fast shape cannot
+     * pass through another between steps. The shape is expected to be at the end of the step, having been translated
+     * by the given displacement. Each convex piece sweeps the convex hull of itself at the start and at the end of
+     * the step, which is exact for a translation; any rotation during the step is taken to have happened at its
+     * start.
+     * @param other The other shape, taken to be stationary during the step.
+     * @param displacementX The displacement of this shape on the x-axis during the step.
+     * @param displacementY The displacement of this shape on the y-axis during the step.
+     * @return If the swept volume overlaps the other shape.
+     */
+    public boolean overlapsSwept(CollisionShape other, float displacementX, float displacementY) {
+        if (displacementX == 0 && displacementY == 0) {
+            return overlaps(other);
+        }
+        val buffers = SWEEP_BUFFERS.get();
+        if (!buffers.sweep(getBounds(), displacementX, displacementY).overlaps(other.getBounds())) {
+            return false;
+        }
+        for (int i = 0; i < pieces.length; i++) {
+            val sweptBounds = buffers.sweep(pieceBounds[i], displacementX, displacementY);
+            if (!sweptBounds.overlaps(other.bounds)) {
+                continue;
+            }
+            int hullLength = -1;
+            for (int j = 0; j < other.pieces.length; j++) {
+                if (!sweptBounds.overlaps(other.pieceBounds[j])) {
+                    continue;
+                }
+                if (hullLength == -1) {
+                    hullLength = buffers.sweptHull(pieces[i].getTransformedVertices(), displacementX, displacementY);
+                }
+                val otherVertices = other.pieces[j].getTransformedVertices();
+                if (Intersector.overlapConvexPolygons(buffers.hull, 0, hullLength,
+                        otherVertices, 0, otherVertices.length, null)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recomputes the bounding rectangles should the shape have moved or rotated.
+     */
+    private void updateBounds() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        for (int i = 0; i < pieces.length; i++) {
+            // computed from the transformed vertices, which the polygon caches until it is next moved
+            pieceBounds[i].set(pieces[i].getBoundingRectangle());
+            if (i == 0) {
+                bounds.set(pieceBounds[i]);
+            } else {
+                bounds.merge(pieceBounds[i]);
+            }
+        }
+    }
+
+    /**
+     * The scratch buffers of the swept tests of a single thread.
+     */
+    private static final class SweepBuffers {
+        /**
+         * The points a swept piece is built out of.
+         */
+        private float[] points = new float[64];
+
+        /**
+         * The order the {@link SweepBuffers#points} are visited in.
+         */
+        private int[] order = new int[32];
+
+        /**
+         * The hull of the {@link SweepBuffers#points}.
+         */
+        private float[] hull = new float[66];
+
+        /**
+         * The bounding rectangle of a swept piece.
+         */
+        private final Rectangle bounds = new Rectangle();
+
+        /**
+         * Grows a rectangle to also cover where it was before a displacement.
+         * @param rectangle The rectangle at the end of the displacement.
+         * @param displacementX The displacement on the x-axis.
+         * @param displacementY The displacement on the y-axis.
+         * @return The swept rectangle, which is {@link SweepBuffers#bounds}.
+         */
+        Rectangle sweep(Rectangle rectangle, float displacementX, float displacementY) {
+            return bounds.set(rectangle.x - Math.max(0, displacementX), rectangle.y - Math.max(0, displacementY),
+                    rectangle.width + Math.abs(displacementX), rectangle.height + Math.abs(displacementY));
+        }
+
+        /**
+         * Computes the convex hull of a convex piece at the end of a displacement and at its start, into
+         * {@link SweepBuffers#hull}, using Andrew's monotone chain.
+         * @param vertices The transformed vertices of the piece at the end of the displacement.
+         * @param displacementX The displacement on the x-axis.
+         * @param displacementY The displacement on the y-axis.
+         * @return The amount of floats of the hull.
+         */
+        int sweptHull(float[] vertices, float displacementX, float displacementY) {
+            // every vertex appears at both ends of the displacement
+            val pointCount = vertices.length;
+            if (order.length < pointCount) {
+                points = new float[pointCount * 2];
+                order = new int[pointCount];
+                hull = new float[(pointCount + 1) * 2];
+            }
+            for (int i = 0; i < vertices.length; i += 2) {
+                points[i] = vertices[i];
+                points[i + 1] = vertices[i + 1];
+                points[vertices.length + i] = vertices[i] - displacementX;
+                points[vertices.length + i + 1] = vertices[i + 1] - displacementY;
+            }
+            for (int i = 0; i < pointCount; i++) {
+                order[i] = i;
+            }
+            IntArrays.quickSort(order, 0, pointCount, (a, b) -> {
+                val byX = Float.compare(points[a * 2], points[b * 2]);
+                return byX != 0 ? byX : Float.compare(points[a * 2 + 1], points[b * 2 + 1]);
+            });
+
+            int hullSize = 0;
+            // the lower hull, then the upper hull, each dropping points that do not turn counter-clockwise
+            for (int pass = 0; pass < 2; pass++) {
+                val start = hullSize;
+                for (int k = 0; k < pointCount; k++) {
+                    val point = order[pass == 0 ? k : pointCount - 1 - k];
+                    val x = points[point * 2];
+                    val y = points[point * 2 + 1];
+                    while (hullSize >= start + 2 && cross(hullSize, x, y) <= 0) {
+                        hullSize--;
+                    }
+                    hull[hullSize * 2] = x;
+                    hull[hullSize * 2 + 1] = y;
+                    hullSize++;
+                }
+                // the last point of each chain is the first of the next
+                hullSize--;
+            }
+            return hullSize * 2;
+        }
+
+        /**
+         * Computes the cross product of the last two points of the {@link SweepBuffers#hull} with a new point.
+         * @param hullSize The amount of points in the hull.
+         * @param x The x-coordinate of the new point.
+         * @param y The y-coordinate of the new point.
+         * @return The cross product, positive for a counter-clockwise turn.
+         */
+        private float cross(int hullSize, float x, float y) {
+            val ax = hull[(hullSize - 2) * 2];
+            val ay = hull[(hullSize - 2) * 2 + 1];
+            val bx = hull[(hullSize - 1) * 2];
+            val by = hull[(hullSize - 1) * 2 + 1];
+            return (bx - ax) * (y - ay) - (by - ay) * (x - ax);
+        }
+    }
+}
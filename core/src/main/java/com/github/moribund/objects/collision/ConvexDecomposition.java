@@ -0,0 +1,145 @@
+package com.github.moribund.objects.collision;
+
+import com.badlogic.gdx.math.EarClippingTriangulator;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+/**
+ * Decomposes concave polygon outlines into convex pieces, which the separating axis test of
+ * {@link com.badlogic.gdx.math.Intersector#overlapConvexPolygons(com.badlogic.gdx.math.Polygon,
+ * com.badlogic.gdx.math.Polygon)} requires. The outline is triangulated by ear clipping, after which neighbouring
+ * pieces are greedily merged for as long as the merged piece stays convex (Hertel-Mehlhorn), which keeps the amount
+ * of pieces low.
+ */
+@UtilityClass
+public class ConvexDecomposition {
+
+    /**
+     * Decomposes a polygon outline into convex pieces.
+     * @param vertices The outline, as x and y pairs.
+     * @return The convex pieces, each as x and y pairs in counter-clockwise order.
+     */
+    public float[][] decompose(float[] vertices) {
+        val triangles = new EarClippingTriangulator().computeTriangles(vertices);
+        val pieces = new ObjectArrayList<IntList>();
+        for (int i = 0; i < triangles.size; i += 3) {
+            val piece = new IntArrayList(new int[] {triangles.get(i), triangles.get(i + 1), triangles.get(i + 2)});
+            val area = signedArea(vertices, piece);
+            if (area == 0) {
+                continue;
+            }
+            if (area < 0) {
+                val second = piece.getInt(1);
+                piece.set(1, piece.getInt(2));
+                piece.set(2, second);
+            }
+            pieces.add(piece);
+        }
+        mergePieces(vertices, pieces);
+
+        val result = new float[pieces.size()][];
+        for (int i = 0; i < pieces.size(); i++) {
+            val piece = pieces.get(i);
+            val pieceVertices = new float[piece.size() * 2];
+            for (int j = 0; j < piece.size(); j++) {
+                pieceVertices[j * 2] = vertices[piece.getInt(j) * 2];
+                pieceVertices[j * 2 + 1] = vertices[piece.getInt(j) * 2 + 1];
+            }
+            result[i] = pieceVertices;
+        }
+        return result;
+    }
+
+    /**
+     * Merges pieces sharing an edge for as long as the merged piece is convex.
+     * @param vertices The outline, as x and y pairs.
+     * @param pieces The pieces, as counter-clockwise indices into the outline, merged in place.
+     */
+    private void mergePieces(float[] vertices, ObjectList<IntList> pieces) {
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            outer:
+            for (int i = 0; i < pieces.size(); i++) {
+                for (int j = i + 1; j < pieces.size(); j++) {
+                    val candidate = merge(pieces.get(i), pieces.get(j));
+                    if (candidate != null && isConvex(vertices, candidate)) {
+                        pieces.set(i, candidate);
+                        pieces.remove(j);
+                        merged = true;
+                        break outer;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges two counter-clockwise pieces along an edge they share.
+     * @param first The first piece.
+     * @param second The second piece.
+     * @return The merged piece, or {@code null} if the pieces do not share an edge.
+     */
+    private IntList merge(IntList first, IntList second) {
+        for (int i = 0; i < first.size(); i++) {
+            val from = first.getInt(i);
+            val to = first.getInt((i + 1) % first.size());
+            for (int j = 0; j < second.size(); j++) {
+                // the shared edge runs the other way around in the second piece
+                if (second.getInt(j) != to || second.getInt((j + 1) % second.size()) != from) {
+                    continue;
+                }
+                val merged = new IntArrayList(first.size() + second.size() - 2);
+                for (int k = 0; k < first.size(); k++) {
+                    merged.add(first.getInt((i + 1 + k) % first.size()));
+                }
+                for (int k = 2; k < second.size(); k++) {
+                    merged.add(second.getInt((j + k) % second.size()));
+                }
+                return merged;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a counter-clockwise piece is convex, allowing collinear vertices.
+     * @param vertices The outline, as x and y pairs.
+     * @param piece The piece, as indices into the outline.
+     * @return If the piece is convex.
+     */
+    private boolean isConvex(float[] vertices, IntList piece) {
+        val size = piece.size();
+        for (int i = 0; i < size; i++) {
+            val a = piece.getInt(i) * 2;
+            val b = piece.getInt((i + 1) % size) * 2;
+            val c = piece.getInt((i + 2) % size) * 2;
+            val cross = (vertices[b] - vertices[a]) * (vertices[c + 1] - vertices[b + 1])
+                    - (vertices[b + 1] - vertices[a + 1]) * (vertices[c] - vertices[b]);
+            if (cross < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the signed area of a piece, which is positive for counter-clockwise pieces.
+     * @param vertices The outline, as x and y pairs.
+     * @param piece The piece, as indices into the outline.
+     * @return The signed area of the piece.
+     */
+    private float signedArea(float[] vertices, IntList piece) {
+        float area = 0;
+        for (int i = 0; i < piece.size(); i++) {
+            val a = piece.getInt(i) * 2;
+            val b = piece.getInt((i + 1) % piece.size()) * 2;
+            area += vertices[a] * vertices[b + 1] - vertices[b] * vertices[a + 1];
+        }
+        return area / 2;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * The collision shapes of world objects and the geometry used to build them.
+ */
+package com.github.moribund.objects.collision;
@@ -1,17 +1,32 @@
 package com.github.moribund.objects.flags;
 
 import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.objects.attributes.Movable;
 
 /**
  * A {@code Flag} is a signification of something that is currently happening to a {@link Flaggable}. The reason
  * a flagging system is in place is to allow for a decoupling of input logic being directly correlative to action,
  * but rather allowing a median between the two to allow for non-playable objects to also have the same actions
  * enacted on them.
+ *
+ * <p>
+ * Every {@code Flag} owns a bit of a flag mask, see {@link FlagConstants#mask(Flag)}. A {@link Flaggable} keeps its
+ * active flags as a single {@code int}, and processes them through the handler table of its kind in
+ * {@link FlagConstants}.
+ *
+ * @param <T> The kind of {@link Movable} the flag enacts on.
  */
-public interface Flag {
+public interface Flag<T extends Movable> {
+
+    /**
+     * Gets the index of the bit this flag owns in a flag mask.
+     * @return The index of the bit.
+     */
+    int getIndex();
+
     /**
      * The processing of the flag should it be in the {@link Flaggable}s list of {@code Flag}s.
-     * @param flaggable The {@link Flaggable} object that this flag is enacting on.
+     * @param movable The {@link Movable} object that this flag is enacting on.
      */
-    void processFlag(Flaggable flaggable);
+    void processFlag(T movable);
 }
@@ -3,52 +3,176 @@ package com.github.moribund.objects.flags;
 import com.github.moribund.objects.flags.movement.*;
 import com.github.moribund.objects.flags.rotating.RotateLeftFlag;
 import com.github.moribund.objects.flags.rotating.RotateRightFlag;
+import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.objects.attributes.FluidMovable;
+import com.github.moribund.objects.attributes.Movable;
+import com.github.moribund.objects.attributes.RestrictedMovable;
 import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * A utility class containing all the {@link Flag}s as ready-to-use constants. These allow for easy removal
  * and adding of flags, for if a new flag were to be made each time, the removal of it from the list of flags
  * would be more complex.
+ *
+ * <p>
+ * Each flag owns a bit index, and a handler table per kind of {@link Movable} maps every index back to the flag of
+ * that kind owning it, so that a {@link Flaggable} can keep its active flags as an {@code int} mask and process them
+ * without allocating or checking its own type.
  */
 @UtilityClass
 public class FlagConstants {
+    /**
+     * The bit index of the {@link FlagConstants#MOVE_FORWARD_FLAG}.
+     */
+    public final int MOVE_FORWARD_INDEX = 0;
+
+    /**
+     * The bit index of the {@link FlagConstants#MOVE_BACKWARD_FLAG}.
+     */
+    public final int MOVE_BACKWARD_INDEX = 1;
+
+    /**
+     * The bit index of the {@link FlagConstants#MOVE_UP_FLAG}.
+     */
+    public final int MOVE_UP_INDEX = 2;
+
+    /**
+     * The bit index of the {@link FlagConstants#MOVE_DOWN_FLAG}.
+     */
+    public final int MOVE_DOWN_INDEX = 3;
+
+    /**
+     * The bit index of the {@link FlagConstants#MOVE_LEFT_FLAG}.
+     */
+    public final int MOVE_LEFT_INDEX = 4;
+
+    /**
+     * The bit index of the {@link FlagConstants#MOVE_RIGHT_FLAG}.
+     */
+    public final int MOVE_RIGHT_INDEX = 5;
+
+    /**
+     * The bit index of the {@link FlagConstants#ROTATE_LEFT_FLAG}.
+     */
+    public final int ROTATE_LEFT_INDEX = 6;
+
+    /**
+     * The bit index of the {@link FlagConstants#ROTATE_RIGHT_FLAG}.
+     */
+    public final int ROTATE_RIGHT_INDEX = 7;
+
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.FluidMovable} is moving forward.
      */
-    public Flag MOVE_FORWARD_FLAG = new MoveForwardFlag();
+    public Flag<FluidMovable> MOVE_FORWARD_FLAG = new MoveForwardFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.FluidMovable} is moving backwards.
      */
-    public Flag MOVE_BACKWARD_FLAG = new MoveBackwardFlag();
+    public Flag<FluidMovable> MOVE_BACKWARD_FLAG = new MoveBackwardFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.RestrictedMovable} is moving up.
      */
-    public Flag MOVE_UP_FLAG = new MoveUpFlag();
+    public Flag<RestrictedMovable> MOVE_UP_FLAG = new MoveUpFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.RestrictedMovable} is moving down.
      */
-    public Flag MOVE_DOWN_FLAG = new MoveDownFlag();
+    public Flag<RestrictedMovable> MOVE_DOWN_FLAG = new MoveDownFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.RestrictedMovable} is moving left.
      */
-    public Flag MOVE_LEFT_FLAG = new MoveLeftFlag();
+    public Flag<RestrictedMovable> MOVE_LEFT_FLAG = new MoveLeftFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.RestrictedMovable} is moving right.
      */
-    public Flag MOVE_RIGHT_FLAG = new MoveRightFlag();
+    public Flag<RestrictedMovable> MOVE_RIGHT_FLAG = new MoveRightFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.Movable} is rotating leftwards.
      */
-    public Flag ROTATE_LEFT_FLAG = new RotateLeftFlag();
+    public Flag<FluidMovable> ROTATE_LEFT_FLAG = new RotateLeftFlag();
 
     /**
      * The {@link Flag} that signifies that a {@link com.github.moribund.objects.attributes.Movable} is rotating rightwards.
      */
-    public Flag ROTATE_RIGHT_FLAG = new RotateRightFlag();
+    public Flag<FluidMovable> ROTATE_RIGHT_FLAG = new RotateRightFlag();
+
+    /**
+     * The handler table of {@link FluidMovable}s, mapping every bit index to the {@link Flag} owning it, if any.
+     */
+    private final Flag<FluidMovable>[] FLUID_HANDLERS = createHandlers(Arrays.asList(MOVE_FORWARD_FLAG,
+            MOVE_BACKWARD_FLAG, ROTATE_LEFT_FLAG, ROTATE_RIGHT_FLAG));
+
+    /**
+     * The handler table of {@link RestrictedMovable}s, mapping every bit index to the {@link Flag} owning it, if any.
+     */
+    private final Flag<RestrictedMovable>[] RESTRICTED_HANDLERS = createHandlers(Arrays.asList(MOVE_UP_FLAG,
+            MOVE_DOWN_FLAG, MOVE_LEFT_FLAG, MOVE_RIGHT_FLAG));
+
+    /**
+     * Creates a handler table out of the flags of a single kind.
+     * @param flags The flags.
+     * @param <T> The kind of {@link Movable} the flags enact on.
+     * @return The handler table, with a {@code null} at the index of every flag of another kind.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T extends Movable> Flag<T>[] createHandlers(List<Flag<T>> flags) {
+        val handlers = (Flag<T>[]) new Flag[Integer.SIZE];
+        for (Flag<T> flag : flags) {
+            handlers[flag.getIndex()] = flag;
+        }
+        return handlers;
+    }
+
+    /**
+     * Gets the mask of a single {@link Flag}.
+     * @param flag The flag.
+     * @return The mask with only the bit of the flag set.
+     */
+    public int mask(Flag<?> flag) {
+        return 1 << flag.getIndex();
+    }
+
+    /**
+     * Processes every {@link Flag} set in a mask on a {@link FluidMovable}, in the order of their bit indices.
+     * @param mask The mask of active flags.
+     * @param movable The movable to process the flags on.
+     */
+    public void process(int mask, FluidMovable movable) {
+        process(mask, FLUID_HANDLERS, movable);
+    }
+
+    /**
+     * Processes every {@link Flag} set in a mask on a {@link RestrictedMovable}, in the order of their bit indices.
+     * @param mask The mask of active flags.
+     * @param movable The movable to process the flags on.
+     */
+    public void process(int mask, RestrictedMovable movable) {
+        process(mask, RESTRICTED_HANDLERS, movable);
+    }
+
+    /**
+     * Processes every {@link Flag} set in a mask through a handler table, skipping the flags of another kind.
+     * @param mask The mask of active flags.
+     * @param handlers The handler table of the kind of the movable.
+     * @param movable The movable to process the flags on.
+     * @param <T> The kind of {@link Movable}.
+     */
+    private <T extends Movable> void process(int mask, Flag<T>[] handlers, T movable) {
+        while (mask != 0) {
+            val handler = handlers[Integer.numberOfTrailingZeros(mask)];
+            if (handler != null) {
+                handler.processFlag(movable);
+            }
+            mask &= mask - 1;
+        }
+    }
 }
@@ -1,18 +1,20 @@
 package com.github.moribund.objects.flags.movement;
 
-import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.RestrictedMovable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagConstants;
 
 /**
  * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link RestrictedMovable} is moving downwards.
  */
-public class MoveDownFlag implements Flag {
+public class MoveDownFlag implements Flag<RestrictedMovable> {
     @Override
-    public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof RestrictedMovable) {
-            RestrictedMovable movable = (RestrictedMovable) flaggable;
-            movable.moveDown();
-        }
+    public int getIndex() {
+        return FlagConstants.MOVE_DOWN_INDEX;
+    }
+
+    @Override
+    public void processFlag(RestrictedMovable movable) {
+        movable.moveDown();
     }
 }
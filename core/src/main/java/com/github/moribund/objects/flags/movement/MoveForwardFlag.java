@@ -1,18 +1,20 @@
 package com.github.moribund.objects.flags.movement;
 
-import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.FluidMovable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagConstants;
 
 /**
  * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link FluidMovable} is moving forward.
  */
-public class MoveForwardFlag implements Flag {
+public class MoveForwardFlag implements Flag<FluidMovable> {
     @Override
-    public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof FluidMovable) {
-            FluidMovable movable = (FluidMovable) flaggable;
-            movable.moveForward();
-        }
+    public int getIndex() {
+        return FlagConstants.MOVE_FORWARD_INDEX;
+    }
+
+    @Override
+    public void processFlag(FluidMovable movable) {
+        movable.moveForward();
     }
 }
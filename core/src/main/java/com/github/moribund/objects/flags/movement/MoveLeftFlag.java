@@ -1,18 +1,20 @@
 package com.github.moribund.objects.flags.movement;
 
-import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.RestrictedMovable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagConstants;
 
 /**
  * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link RestrictedMovable} is moving leftwards.
  */
-public class MoveLeftFlag implements Flag {
+public class MoveLeftFlag implements Flag<RestrictedMovable> {
     @Override
-    public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof RestrictedMovable) {
-            RestrictedMovable movable = (RestrictedMovable) flaggable;
-            movable.moveLeft();
-        }
+    public int getIndex() {
+        return FlagConstants.MOVE_LEFT_INDEX;
+    }
+
+    @Override
+    public void processFlag(RestrictedMovable movable) {
+        movable.moveLeft();
     }
 }
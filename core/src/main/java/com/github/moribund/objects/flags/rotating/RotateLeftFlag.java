@@ -1,19 +1,21 @@
 package com.github.moribund.objects.flags.rotating;
 
-import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.FluidMovable;
 import com.github.moribund.objects.attributes.Movable;
 import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagConstants;
 
 /**
  * The {@link com.github.moribund.objects.flags.Flag} that signifies that a {@link Movable} is rotating leftwards.
  */
-public class RotateLeftFlag implements Flag {
+public class RotateLeftFlag implements Flag<FluidMovable> {
     @Override
-    public void processFlag(Flaggable flaggable) {
-        if (flaggable instanceof FluidMovable) {
-            FluidMovable movable = (FluidMovable) flaggable;
-            movable.rotateLeft();
-        }
+    public int getIndex() {
+        return FlagConstants.ROTATE_LEFT_INDEX;
+    }
+
+    @Override
+    public void processFlag(FluidMovable movable) {
+        movable.rotateLeft();
     }
 }
@@ -1,16 +1,19 @@
 package com.github.moribund.objects.nonplayable.items;
 
+import com.github.moribund.graphics.animations.Animation;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.graphics.sprites.SpriteVertices;
+import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
 import lombok.Getter;
 
 /**
- * All equipped items in association with their {@link SpriteFile} and {@link SpriteVertices}.
+ * All equipped items in association with their {@link SpriteFile} and {@link SpriteVertices}, and the
+ * {@link Animation} and {@link ProjectileType} of a shot with them, which a shot is predicted with.
  */
 public enum EquippedItemType {
-    BOW(5, SpriteFile.PLAYER_WITH_BOW, SpriteVertices.PLAYER_WITH_BOW),
-    DART(6, SpriteFile.PLAYER_WITH_DART, SpriteVertices.PLAYER_WITH_DART),
-    SPEAR(4, SpriteFile.PLAYER_WITH_SPEAR, SpriteVertices.PLAYER_WITH_SPEAR);
+    BOW(5, SpriteFile.PLAYER_WITH_BOW, SpriteVertices.PLAYER_WITH_BOW, Animation.BOW, ProjectileType.ARROW),
+    DART(6, SpriteFile.PLAYER_WITH_DART, SpriteVertices.PLAYER_WITH_DART, Animation.DART, ProjectileType.DART),
+    SPEAR(4, SpriteFile.PLAYER_WITH_SPEAR, SpriteVertices.PLAYER_WITH_SPEAR, Animation.SPEAR, ProjectileType.SPEAR);
 
     /**
      * TODO convert this to a HashMap for maximized efficiency.
@@ -22,11 +25,18 @@ public enum EquippedItemType {
     private final SpriteFile spriteFile;
     @Getter
     private final SpriteVertices spriteVertices;
+    @Getter
+    private final Animation animation;
+    @Getter
+    private final ProjectileType projectileType;
 
-    EquippedItemType(int itemId, SpriteFile spriteFile, SpriteVertices spriteVertices) {
+    EquippedItemType(int itemId, SpriteFile spriteFile, SpriteVertices spriteVertices, Animation animation,
+                     ProjectileType projectileType) {
         this.itemId = itemId;
         this.spriteFile = spriteFile;
         this.spriteVertices = spriteVertices;
+        this.animation = animation;
+        this.projectileType = projectileType;
     }
 
     /**
@@ -41,12 +41,21 @@ public final class GroundItem implements Locatable, DrawableGameAsset {
      * A static helper method to help add items to the ground without having to go through the hassle
      * of adding the ground item to the respective sets for visualization.
      * @param groundItem The ground item to help add to the game.
-     * @see com.github.moribund.graphics.drawables.DrawableGameAsset
+     * @see MoribundClient#groundItemGrid
      * @see MoribundClient#groundItems
      */
     public static void addGroundItem(GroundItem groundItem) {
         MoribundClient.getInstance().getGroundItems().add(groundItem);
-        MoribundClient.getInstance().getDrawableGameAssets().add(groundItem);
+        MoribundClient.getInstance().getGroundItemGrid().insert(groundItem, groundItem.getX(), groundItem.getY());
+    }
+
+    /**
+     * The counterpart of {@link GroundItem#addGroundItem(GroundItem)}, removing a ground item from the game.
+     * @param groundItem The ground item to remove.
+     */
+    public static void removeGroundItem(GroundItem groundItem) {
+        MoribundClient.getInstance().getGroundItems().remove(groundItem);
+        MoribundClient.getInstance().getGroundItemGrid().remove(groundItem);
     }
 
     @Override
@@ -0,0 +1,121 @@
+package com.github.moribund.objects.nonplayable.items;
+
+import com.github.moribund.MoribundClient;
+import com.github.moribund.net.packets.items.GroundItemDigestPacket;
+import com.github.moribund.simulation.GameClock;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code GroundItemDigest} periodically sends the server a digest of the {@link GroundItem}s this client
+ * believes are on the ground, so that items drifted out of sync (such as from a lost
+ * {@link com.github.moribund.net.packets.graphics.NewGroundItemPacket} or
+ * {@link com.github.moribund.net.packets.items.PickupItemPacket}) are corrected.
+ *
+ * <p>
+ * The ground is divided into square buckets of {@link GroundItemDigest#BUCKET_SIZE}, which are hashed into
+ * {@link GroundItemDigest#BUCKET_COUNT} slots. The hash of a slot is the sum of the hashes of its items, so it does
+ * not depend on the order items were added in. The server compares the digest against its own and replies with
+ * a {@link com.github.moribund.net.packets.items.GroundItemResyncPacket} for only the slots that differ.
+ */
+public final class GroundItemDigest {
+
+    /**
+     * The length of the side of a bucket, in world units.
+     */
+    public static final int BUCKET_SIZE = 512;
+
+    /**
+     * The amount of slots the buckets are hashed into, and thus the length of a digest.
+     */
+    public static final int BUCKET_COUNT = 64;
+
+    /**
+     * The interval between digests, in nanoseconds.
+     */
+    private static final long DIGEST_INTERVAL_NANOS = 5_000_000_000L;
+
+    /**
+     * The digest, reused between sends. A packet is serialized as soon as it is sent, so the digest can be refilled
+     * for the next send without a copy.
+     */
+    private final int[] hashes = new int[BUCKET_COUNT];
+
+    /**
+     * The packet sent with the {@link GroundItemDigest#hashes}, reused for as long as the local player stays the
+     * same.
+     */
+    private GroundItemDigestPacket packet;
+
+    /**
+     * The clock the digests are timed by, in real time.
+     */
+    private final GameClock clock;
+
+    /**
+     * When the last digest was sent.
+     */
+    private long lastDigest;
+
+    /**
+     * Creates the digest of the ground items.
+     * @param clock The clock to time the digests by.
+     */
+    public GroundItemDigest(GameClock clock) {
+        this.clock = clock;
+        lastDigest = clock.getRealTimeNanos();
+    }
+
+    /**
+     * Gets the slot of the bucket a location lies in.
+     * @param x The x-coordinate of the location.
+     * @param y The y-coordinate of the location.
+     * @return The slot of the bucket.
+     */
+    public static int slotOf(float x, float y) {
+        val bucketX = (int) Math.floor(x / BUCKET_SIZE);
+        val bucketY = (int) Math.floor(y / BUCKET_SIZE);
+        return ((bucketX * 73856093) ^ (bucketY * 19349663)) & (BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Hashes a single ground item.
+     * @param itemId The item ID of the ground item.
+     * @param x The x-coordinate of the ground item.
+     * @param y The y-coordinate of the ground item.
+     * @return The hash of the ground item.
+     */
+    public static int hash(int itemId, float x, float y) {
+        int hash = itemId;
+        hash = hash * 31 + Float.floatToIntBits(x);
+        hash = hash * 31 + Float.floatToIntBits(y);
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    /**
+     * Sends a digest to the server should the interval have passed. This is called every LibGDX game cycle.
+     */
+    public void update() {
+        val player = MoribundClient.getInstance().getPlayer();
+        val now = clock.getRealTimeNanos();
+        if (player == null || now - lastDigest < DIGEST_INTERVAL_NANOS) {
+            return;
+        }
+        lastDigest = now;
+
+        Arrays.fill(hashes, 0);
+        for (GroundItem groundItem : MoribundClient.getInstance().getGroundItems()) {
+            hashes[slotOf(groundItem.getX(), groundItem.getY())] +=
+                    hash(groundItem.getItemType().getId(), groundItem.getX(), groundItem.getY());
+        }
+        if (packet == null || packet.getGameId() != player.getGameId()
+                || packet.getPlayerId() != player.getPlayerId()) {
+            packet = new GroundItemDigestPacket(player.getGameId(), player.getPlayerId(), hashes);
+        }
+        MoribundClient.getInstance().getPacketDispatcher().sendUDP(packet);
+    }
+}
@@ -1,14 +1,19 @@
 package com.github.moribund.objects.nonplayable.items;
 
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import lombok.Getter;
 import lombok.val;
 
 /**
- * The {@code Item} in the inventory or equipment.
+ * The {@code Item} in the inventory or equipment. An item holds nothing but its {@link ItemType}, so a single
+ * immutable instance per type is shared by every slot holding it, see {@link Item#of(ItemType)}.
  */
-public class Item {
+public final class Item {
+
+    /**
+     * The shared item of each {@link ItemType}, indexed by ordinal.
+     */
+    private static final Item[] FLYWEIGHTS = createFlyweights();
 
     /**
      * The respective {@link ItemType} of the item.
@@ -16,23 +21,46 @@ public class Item {
     @Getter
     private final ItemType itemType;
 
-    public Item(ItemType itemType) {
+    private Item(ItemType itemType) {
         this.itemType = itemType;
     }
 
     /**
-     * Draws an item onto the screen.
+     * Creates the shared item of every {@link ItemType}.
+     * @return The items, indexed by ordinal.
+     */
+    private static Item[] createFlyweights() {
+        val itemTypes = ItemType.values();
+        val items = new Item[itemTypes.length];
+        for (ItemType itemType : itemTypes) {
+            items[itemType.ordinal()] = new Item(itemType);
+        }
+        return items;
+    }
+
+    /**
+     * Gets the shared item of an {@link ItemType}.
+     * @param itemType The type of item.
+     * @return The shared item, or {@code null} should the type be {@code null}.
+     */
+    public static Item of(ItemType itemType) {
+        return itemType == null ? null : FLYWEIGHTS[itemType.ordinal()];
+    }
+
+    /**
+     * Creates the sprite of an item as drawn in a slot of an item container. This is only called when the
+     * contents of the container change.
      * @param slot The slot ID of the item.
      * @param startingX The starting X coordinate to start drawing the item from, using the slot to readjust.
-     * @param batch The batch to draw the item to.
+     * @return The sprite placed in the slot.
      */
-    public void draw(int slot, float startingX, Batch batch) {
+    public Sprite createSprite(int slot, float startingX) {
         val sprite = new Sprite(itemType.getSprite());
         val incrementation = 95;
         val x = startingX + (incrementation * slot) + 20 - 175;
         val y = 20f;
         sprite.setX(x);
         sprite.setY(y);
-        sprite.draw(batch);
+        return sprite;
     }
 }
@@ -2,47 +2,85 @@ package com.github.moribund.objects.nonplayable.projectile;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.utils.Pool;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
+import com.github.moribund.net.packets.data.ProjectileEventData;
 import com.github.moribund.objects.attributes.Collidable;
 import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.FluidMovable;
-import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.collision.CollisionShape;
 import com.github.moribund.objects.flags.FlagConstants;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
-import it.unimi.dsi.fastutil.objects.ObjectSet;
+import com.github.moribund.simulation.Body;
+import com.github.moribund.simulation.Entity;
+import com.github.moribund.simulation.GameClock;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
 import lombok.val;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-
 /**
  * A {@code Projectile} is not a singular {@link com.badlogic.gdx.graphics.g2d.Sprite},
  * rather it is any {@link com.badlogic.gdx.graphics.g2d.Sprite} that is moving
  * and visible in the screen that is not attached to a {@link com.badlogic.gdx.InputProcessor}.
+ *
+ * <p>
+ * Projectiles are pooled per {@link ProjectileType} so that firing does not allocate: a projectile is obtained
+ * through the {@link ProjectileBuilder}, and freed back into its pool once despawned. Since a freed projectile is
+ * reused for a later shot, code holding on to a projectile across time compares the handle of its {@link Body}.
+ *
+ * <p>
+ * Launching and removing a projectile only requests it to be spawned or despawned through the
+ * {@link com.github.moribund.simulation.EntityCommandBuffer}; it is added to or removed from the collections of the
+ * game at the next safe point.
+ *
+ * <p>
+ * As a projectile only ever moves in a straight line at a constant speed, its location is by default not
+ * integrated tick by tick, but evaluated in closed form from the origin, direction and speed it was given and the
+ * tick it left its origin at, see {@link Projectile#getXAt(long)}. This keeps clients stepping at different frame
+ * rates in agreement on where a projectile is, lets a projectile be placed at any tick at once through
+ * {@link Projectile#seek(long)}, and lets ticks of a projectile be skipped without it falling behind. Projectiles
+ * are integrated through their flags instead should the {@code moribund.analyticProjectiles} system property be
+ * {@code false}, or while flagged with anything other than {@link FlagConstants#MOVE_FORWARD_FLAG}.
  */
-public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
+public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable, Pool.Poolable, Entity {
 
     /**
-     * The list of {@link Flag} for its {@link Flaggable} attribute.
+     * The amount of ticks a projectile lives for once launched.
      */
-    private final ObjectSet<Flag> flags;
+    private static final int LIFETIME_TICKS = 3 * GameClock.TICK_RATE;
 
     /**
-     * The list of {@link DrawableGameAsset} that don't count as "collisions" should they collide.
+     * Whether projectiles moving straight forward are placed in closed form rather than integrated.
      */
-    private final ObjectSet<DrawableGameAsset> ignores;
+    private static final boolean ANALYTIC_TRAJECTORIES =
+            Boolean.parseBoolean(System.getProperty("moribund.analyticProjectiles", "true"));
 
     /**
-     * The sprite of the {@code Projectile}.
+     * The flag mask of a projectile moving straight forward, which is what is evaluated in closed form.
      */
-    @Getter
-    private final Sprite sprite;
+    private static final int STRAIGHT_FLAGS = FlagConstants.mask(FlagConstants.MOVE_FORWARD_FLAG);
+
+    /**
+     * The players near a projectile, reused between the collision checks of projectiles processed one at a time on
+     * the render thread.
+     */
+    private static final ObjectList<PlayableCharacter> COLLISION_CANDIDATES = new ObjectArrayList<>();
+
+    /**
+     * The IDs of the players that don't count as "collisions" should they collide.
+     */
+    private final IntList ignoredPlayerIds;
+
+    /**
+     * The sprite of the {@code Projectile}, created once it is first drawn. Its location and rotation are only
+     * synced from the {@link Projectile#body} when drawn.
+     */
+    private Sprite sprite;
 
     /**
      * The {@link ProjectileType} of the projectile.
@@ -54,73 +92,296 @@ public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
      * The {@link PlayableCharacter} that is the cause of this projectile.
      */
     @Getter
-    private final PlayableCharacter source;
+    private PlayableCharacter source;
+
+    /**
+     * The unique ID the server assigned to this projectile, which is its key in {@link MoribundClient#projectiles}.
+     */
+    @Getter
+    private int uniqueId;
 
     /**
      * The speed at which the {@code Projectile} can rotate left or right.
      */
-    private final float rotationSpeed;
+    private float rotationSpeed;
 
     /**
      * The speed at which the {@code Projectile} can move forward or back.
      */
-    private final float movementSpeed;
+    private float movementSpeed;
+
+    /**
+     * The tick the projectile was launched at.
+     */
+    private long launchTick;
 
     /**
-     * The time the projectile was released.
+     * The x-coordinate the projectile was at on the {@link Projectile#originTick}.
      */
-    private final LocalDateTime timeReleased;
+    private float originX;
 
     /**
-     * The polygon generated by the {@link ProjectileType#spriteVertices}.
+     * The y-coordinate the projectile was at on the {@link Projectile#originTick}.
      */
-    private final Polygon polygon;
+    private float originY;
 
     /**
-     * Creates a new {@code Projectile} with a multitude of initial settings. It is important to note that in this
-     * constructor, a {@code Projectile} is automatically marked with the {@link FlagConstants#MOVE_FORWARD_FLAG}
-     * flag.
+     * The tick the projectile was at its origin, which is whenever it was last placed or turned.
      */
-    Projectile(ProjectileType projectileType, PlayableCharacter source, float startingX, float startingY, float startingAngle, float rotationSpeed, float movementSpeed, ObjectSet<DrawableGameAsset> ignores) {
-        this.sprite = new Sprite(projectileType.getSprite());
-        this.polygon = new Polygon(projectileType.getSpriteVertices().getVertices());
+    private long originTick;
+
+    /**
+     * The cosine of the rotation of the projectile, as of the {@link Projectile#originTick}.
+     */
+    private float directionX;
+
+    /**
+     * The sine of the rotation of the projectile, as of the {@link Projectile#originTick}.
+     */
+    private float directionY;
+
+    /**
+     * The {@link Body} holding the location, rotation and velocity of the projectile, with the
+     * {@link CollisionShape} generated by the {@link ProjectileType#spriteVertices}.
+     */
+    @Getter
+    private final Body body;
+
+    /**
+     * Whether the projectile crossed a blocked tile of the {@link MoribundClient#obstacleMap} in its last step.
+     */
+    private boolean obstructed;
+
+    /**
+     * Whether the projectile has been removed, and its slot freed.
+     */
+    private boolean removed = true;
+
+    /**
+     * Creates a new pooled {@code Projectile} of a type, which is not yet in use.
+     * @param projectileType The {@link ProjectileType} of the projectile.
+     * @see ProjectilePool
+     */
+    Projectile(ProjectileType projectileType) {
         this.projectileType = projectileType;
+        ignoredPlayerIds = new IntArrayList();
+        body = new Body(MoribundClient.getInstance().getEntityStore(), projectileType.getSpriteVertices());
+        uniqueId = -1;
+    }
+
+    /**
+     * Puts a pooled projectile into use with a multitude of initial settings. It is important to note that in this
+     * method, a {@code Projectile} is automatically marked with the {@link FlagConstants#MOVE_FORWARD_FLAG} flag.
+     */
+    void init(PlayableCharacter source, int uniqueId, float startingX, float startingY, float startingAngle,
+              float rotationSpeed, float movementSpeed, IntList ignoredPlayerIds) {
         this.source = source;
+        this.uniqueId = uniqueId;
         this.rotationSpeed = rotationSpeed;
         this.movementSpeed = movementSpeed;
-        this.ignores = new ObjectArraySet<>(ignores);
-        flags = new ObjectArraySet<>();
-        flags.add(FlagConstants.MOVE_FORWARD_FLAG);
-        sprite.setX(startingX);
-        sprite.setY(startingY);
-        sprite.setRotation(startingAngle);
-        polygon.setPosition(startingX, startingY);
-        polygon.setRotation(startingAngle);
-        polygon.setOrigin(sprite.getOriginX(), sprite.getOriginY());
-        timeReleased = LocalDateTime.now();
+        this.ignoredPlayerIds.addAll(ignoredPlayerIds);
+        body.spawn();
+        body.setFlags(FlagConstants.mask(FlagConstants.MOVE_FORWARD_FLAG));
+        removed = false;
+        obstructed = false;
+        setX(startingX);
+        setY(startingY);
+        setRotation(startingAngle);
+        body.snap();
+        launchTick = MoribundClient.getInstance().getClock().getTick();
+        resetOrigin();
+    }
+
+    /**
+     * Resets the projectile as it is freed back into its pool.
+     */
+    @Override
+    public void reset() {
+        source = null;
+        uniqueId = -1;
+        ignoredPlayerIds.clear();
     }
 
     /**
      * A helper method made for launching projectiles. Rather than making the person who wishes to launch a projectile
-     * go through the hassle of adding the projectile to the list of {@link Flaggable} and {@link DrawableGameAsset} objects,
-     * this helper method takes the projectile and does it for them.
+     * go through the hassle of adding the projectile to the list of {@link Flaggable} objects and the
+     * {@link MoribundClient#projectileGrid}, this helper method takes the projectile and requests it to be spawned.
+     * Launching a removed projectile does nothing.
      * @param projectile The respective {@code Projectile} that is about to be launched.
-     * @see MoribundClient#flaggables
-     * @see MoribundClient#drawableGameAssets
+     * @see Projectile#onSpawn()
      */
     public static void launchProjectile(Projectile projectile) {
-        MoribundClient.getInstance().getFlaggables().add(projectile);
-        MoribundClient.getInstance().getDrawableGameAssets().add(projectile);
+        if (projectile.removed) {
+            return;
+        }
+        projectile.body.snap();
+        projectile.launchTick = MoribundClient.getInstance().getClock().getTick();
+        projectile.resetOrigin();
+        MoribundClient.getInstance().getEntityCommands().spawn(projectile);
     }
 
     /**
-     * Removes a given projectile.
+     * Adds the launched projectile to the list of {@link Flaggable} objects and the
+     * {@link MoribundClient#projectileGrid}.
      * @see MoribundClient#flaggables
-     * @see MoribundClient#drawableGameAssets
+     * @see MoribundClient#projectileGrid
+     */
+    @Override
+    public void onSpawn() {
+        if (removed) {
+            return;
+        }
+        MoribundClient.getInstance().getFlaggables().add(this);
+        MoribundClient.getInstance().getProjectileGrid().insert(this, getX(), getY());
+    }
+
+    /**
+     * Registers a projectile under its {@link Projectile#uniqueId} before it is launched, so that the server can
+     * refer to it (and cancel it) while its launching animation is still playing.
+     * @param projectile The projectile to register.
+     * @see MoribundClient#projectiles
+     */
+    public static void registerProjectile(Projectile projectile) {
+        MoribundClient.getInstance().getProjectiles().put(projectile.getUniqueId(), projectile);
+    }
+
+    /**
+     * Checks whether a projectile is still registered, i.e. it has not been removed by a collision, by timing out
+     * or by the server despawning it.
+     * @param projectile The projectile to check.
+     * @return If the projectile is still registered.
+     */
+    public static boolean isRegistered(Projectile projectile) {
+        return MoribundClient.getInstance().getProjectiles().get(projectile.getUniqueId()) == projectile;
+    }
+
+    /**
+     * Removes a given projectile from the {@link MoribundClient#projectiles} at once, and requests it to be
+     * despawned. Removing a projectile twice does nothing.
+     * @see Projectile#onDespawn()
      */
     public void removeProjectile() {
+        if (removed) {
+            return;
+        }
+        removed = true;
+        MoribundClient.getInstance().getProjectiles().remove(uniqueId, this);
+        MoribundClient.getInstance().getEntityCommands().despawn(this);
+    }
+
+    /**
+     * Removes the projectile from the list of {@link Flaggable} objects and the {@link MoribundClient#projectileGrid},
+     * despawns its {@link Body} and frees it back into its pool.
+     * @see MoribundClient#flaggables
+     * @see MoribundClient#projectileGrid
+     */
+    @Override
+    public void onDespawn() {
         MoribundClient.getInstance().getFlaggables().remove(this);
-        MoribundClient.getInstance().getDrawableGameAssets().remove(this);
+        MoribundClient.getInstance().getProjectileGrid().remove(this);
+        body.despawn();
+        ProjectilePool.free(this);
+    }
+
+    /**
+     * Checks whether the projectile has been removed, though it may not have been despawned yet.
+     * @return If the projectile has been removed.
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    /**
+     * Enacts a single projectile event sent by the server. A spawn of a projectile that is already known
+     * only corrects its location and rotation, and a despawn of an unknown projectile is ignored, which makes
+     * applying the same event twice harmless. A spawn of a projectile the local player predicted adopts the
+     * prediction rather than making a second projectile, see
+     * {@link com.github.moribund.objects.playable.players.Player#adoptPredictedShot}.
+     * @param event The projectile event to enact.
+     */
+    public static void processEvent(ProjectileEventData event) {
+        val client = MoribundClient.getInstance();
+        val existing = client.getProjectiles().get(event.getUniqueProjectileId());
+        switch (event.getEventType()) {
+            case SPAWN:
+                if (existing != null) {
+                    existing.correct(event.getX(), event.getY(), event.getRotation());
+                    return;
+                }
+                val type = ProjectileType.getForId(event.getProjectileId());
+                if (type == null) {
+                    return;
+                }
+                val source = client.getPlayers().get(event.getSourcePlayerId());
+                val localPlayer = client.getPlayer();
+                if (source != null && source == localPlayer && localPlayer.adoptPredictedShot(type,
+                        event.getUniqueProjectileId(), event.getMovementSpeed(), event.getX(), event.getY(),
+                        event.getRotation())) {
+                    return;
+                }
+                val builder = builder()
+                        .type(type)
+                        .by(source)
+                        .withUniqueId(event.getUniqueProjectileId())
+                        .atXY(event.getX(), event.getY())
+                        .withAngle(event.getRotation())
+                        .withMovementSpeed(event.getMovementSpeed());
+                if (source != null) {
+                    builder.ignoring(source);
+                }
+                val projectile = builder.create();
+                if (projectile != null) {
+                    registerProjectile(projectile);
+                    launchProjectile(projectile);
+                }
+                break;
+            case DESPAWN:
+                if (existing != null) {
+                    existing.removeProjectile();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Checks whether the projectile was launched by this client ahead of the server, and is not yet confirmed. A
+     * predicted projectile has a negative {@link Projectile#uniqueId}, and does not hit players until confirmed.
+     * @return If the projectile is predicted.
+     * @see Projectile#confirm(int, float)
+     */
+    public boolean isPredicted() {
+        return uniqueId < 0;
+    }
+
+    /**
+     * Confirms a predicted projectile as the projectile the server launched, registering it under the unique ID the
+     * server assigned and taking on the speed the server launched it at. Nothing is done should the projectile
+     * have been removed meanwhile.
+     * @param uniqueId The unique ID the server assigned to the projectile.
+     * @param movementSpeed The speed the server launched the projectile at.
+     */
+    public void confirm(int uniqueId, float movementSpeed) {
+        val projectiles = MoribundClient.getInstance().getProjectiles();
+        if (!projectiles.remove(this.uniqueId, this)) {
+            return;
+        }
+        this.uniqueId = uniqueId;
+        projectiles.put(uniqueId, this);
+        resetOrigin();
+        this.movementSpeed = movementSpeed;
+        body.setVelocity(movementSpeed * MathUtils.cosDeg(getRotation()), movementSpeed * MathUtils.sinDeg(getRotation()));
+    }
+
+    /**
+     * Corrects the location and rotation of the projectile to what the server has it as.
+     * @param x The x-coordinate of the projectile.
+     * @param y The y-coordinate of the projectile.
+     * @param rotation The rotation angle of the projectile.
+     */
+    public void correct(float x, float y, float rotation) {
+        setX(x);
+        setY(y);
+        setRotation(rotation);
     }
 
     /**
@@ -133,109 +394,238 @@ public class Projectile implements FluidMovable, DrawableGameAsset, Flaggable {
 
     @Override
     public void draw(Batch batch) {
+        val alpha = MoribundClient.getInstance().getClock().getAlpha();
+        if (sprite == null) {
+            sprite = new Sprite(projectileType.getSprite());
+        }
+        sprite.setPosition(body.getRenderX(alpha), body.getRenderY(alpha));
+        sprite.setRotation(body.getRenderRotation(alpha));
         sprite.draw(batch);
-        checkRemoval();
     }
 
     /**
-     * Calls the needed checks to check if a projectile should be removed.
+     * Moves the projectile to where it is at the end of the tick being stepped, either in closed form or by its
+     * flags. Only the projectile's own {@link Body} is written, so that projectiles may be advanced from several
+     * threads at once; the {@link MoribundClient#projectileGrid} is only updated through
+     * {@link Projectile#updateGrid()}.
      */
-    private void checkRemoval() {
-        checkCollision();
-        checkTimeExceeded();
+    void advance() {
+        val nextTick = MoribundClient.getInstance().getClock().getTick() + 1;
+        val originX = body.getOutline().getOriginX();
+        val originY = body.getOutline().getOriginY();
+        val startX = getX() + originX;
+        val startY = getY() + originY;
+        if (isAnalytic()) {
+            seek(nextTick);
+        } else {
+            FlagConstants.process(body.getFlags(), this);
+            resetOrigin(nextTick);
+        }
+        obstructed = MoribundClient.getInstance().getObstacleMap().isLineBlocked(startX, startY,
+                getX() + originX, getY() + originY);
     }
 
     /**
-     * Checks to see if the projectile has been on the screen too long and removes it.
+     * Checks whether the location of the projectile is evaluated in closed form, which it is while it moves
+     * straight forward.
+     * @return If the projectile follows its analytic trajectory.
      */
-    private void checkTimeExceeded() {
-        val timeTillRemoval = 3;
-        val timeTillRemoveUnits = ChronoUnit.SECONDS;
-        if (timeTillRemoveUnits.between(timeReleased, LocalDateTime.now()) >= timeTillRemoval) {
-            removeProjectile();
+    public boolean isAnalytic() {
+        return ANALYTIC_TRAJECTORIES && body.getFlags() == STRAIGHT_FLAGS;
+    }
+
+    /**
+     * Makes the current location, rotation and tick the origin the trajectory of the projectile is evaluated from.
+     * This is done whenever the projectile is placed or turned.
+     */
+    private void resetOrigin() {
+        resetOrigin(MoribundClient.getInstance().getClock().getTick());
+    }
+
+    /**
+     * Makes the current location and rotation the origin the trajectory of the projectile is evaluated from.
+     * @param tick The tick the projectile is at its current location on.
+     */
+    private void resetOrigin(long tick) {
+        originX = getX();
+        originY = getY();
+        originTick = tick;
+        directionX = MathUtils.cosDeg(getRotation());
+        directionY = MathUtils.sinDeg(getRotation());
+    }
+
+    /**
+     * Gets the x-coordinate the projectile is at on a tick, should it keep on its straight trajectory.
+     * @param tick The tick, which may be before or after the current one.
+     * @return The x-coordinate on the tick.
+     */
+    public float getXAt(long tick) {
+        return originX + directionX * movementSpeed * (tick - originTick);
+    }
+
+    /**
+     * Gets the y-coordinate the projectile is at on a tick, should it keep on its straight trajectory.
+     * @param tick The tick, which may be before or after the current one.
+     * @return The y-coordinate on the tick.
+     */
+    public float getYAt(long tick) {
+        return originY + directionY * movementSpeed * (tick - originTick);
+    }
+
+    /**
+     * Places the projectile where its straight trajectory has it on a tick. Like {@link Projectile#advance()}, only
+     * the {@link Body} of the projectile is written.
+     * @param tick The tick to place the projectile at.
+     */
+    public void seek(long tick) {
+        body.setPosition(getXAt(tick), getYAt(tick));
+    }
+
+    /**
+     * Moves the projectile in the {@link MoribundClient#projectileGrid} to its current location. The location may be
+     * set at any point, such as when the server corrects it, but the grid is only re-bucketed here, as part of the
+     * projectile's tick.
+     */
+    void updateGrid() {
+        MoribundClient.getInstance().getProjectileGrid().update(this, getX(), getY());
+    }
+
+    /**
+     * Checks to see if the projectile has been on the screen too long.
+     * @return If the lifetime of the projectile has been exceeded.
+     */
+    boolean isExpired() {
+        return MoribundClient.getInstance().getClock().getTick() - launchTick >= LIFETIME_TICKS;
+    }
+
+    /**
+     * Finds the first {@link PlayableCharacter} that the volume the projectile swept this tick collides with, so
+     * that a fast projectile cannot pass through a player between ticks. Only the players in the cells of the
+     * {@link MoribundClient#playerGrid} around the swept volume are tested. The grid is only read, so this may be
+     * called from several threads at once, each with its own list of candidates, while the grid is not written.
+     * @param displacementX The distance the projectile moved on the x-axis this tick.
+     * @param displacementY The distance the projectile moved on the y-axis this tick.
+     * @param candidates The list to gather the nearby players into.
+     * @return The player collided with, or {@code null} if there is none.
+     * @see CollisionShape#overlapsSwept(CollisionShape, float, float)
+     */
+    PlayableCharacter findCollision(float displacementX, float displacementY,
+                                    ObjectList<PlayableCharacter> candidates) {
+        val collisionShape = body.getCollisionShape();
+        val bounds = collisionShape.getBounds();
+        candidates.clear();
+        MoribundClient.getInstance().getPlayerGrid().query(
+                bounds.x - Math.max(0, displacementX), bounds.y - Math.max(0, displacementY),
+                bounds.x + bounds.width - Math.min(0, displacementX),
+                bounds.y + bounds.height - Math.min(0, displacementY), candidates);
+        for (PlayableCharacter player : candidates) {
+            if (collidesWith(player, displacementX, displacementY)) {
+                return player;
+            }
         }
+        return null;
     }
 
     /**
-     * Checks to see if a projectile is colliding with a {@link Collidable}.
+     * Checks whether the volume the projectile swept this tick collides with a player it does not ignore.
+     * @param player The player.
+     * @param displacementX The distance the projectile moved on the x-axis this tick.
+     * @param displacementY The distance the projectile moved on the y-axis this tick.
+     * @return If the projectile collides with the player.
      */
-    private void checkCollision() {
-        MoribundClient.getInstance().getDrawableGameAssets().stream()
-                .filter(drawable -> drawable instanceof Collidable)
-                .filter(drawable -> !ignores.contains(drawable))
-                .forEach(drawable -> {
-                    Collidable collidable = (Collidable) drawable;
-                    if (Intersector.overlapConvexPolygons(polygon, collidable.getPolygon())) {
-                        collidable.collide(this);
-                    }
-                });
+    private boolean collidesWith(PlayableCharacter player, float displacementX, float displacementY) {
+        return !ignoredPlayerIds.contains(player.getPlayerId())
+                && body.getCollisionShape().overlapsSwept(player.getCollisionShape(), displacementX, displacementY);
     }
 
+    /**
+     * Enacts the outcome of a tick: a collision with a player, or otherwise the removal of the projectile should
+     * it have hit an obstacle or exceeded its lifetime. A predicted projectile passes through players until it is
+     * confirmed, as the server does not know of it yet.
+     * @param collided The player collided with, or {@code null} if there is none.
+     */
+    void resolve(PlayableCharacter collided) {
+        if (removed) {
+            return;
+        }
+        if (collided != null && !isPredicted()) {
+            collided.collide(this);
+        } else if (obstructed || isExpired()) {
+            removeProjectile();
+        }
+    }
+
+    /**
+     * Moves the projectile by its flags, then checks whether it should be removed.
+     * @see ProjectileUpdater
+     */
     @Override
     public void processFlags() {
-        flags.forEach(flag -> flag.processFlag(this));
+        if (removed) {
+            return;
+        }
+        val startX = getX();
+        val startY = getY();
+        advance();
+        updateGrid();
+        resolve(findCollision(getX() - startX, getY() - startY, COLLISION_CANDIDATES));
     }
 
     @Override
     public float getX() {
-        return sprite.getX();
+        return body.getX();
     }
 
     @Override
     public float getY() {
-        return sprite.getY();
+        return body.getY();
     }
 
     @Override
     public void setX(float x) {
-        sprite.setX(x);
-        polygon.setPosition(x, getY());
+        body.setPosition(x, getY());
+        resetOrigin();
     }
 
     @Override
     public void setY(float y) {
-        sprite.setY(y);
-        polygon.setPosition(getX(), y);
+        body.setPosition(getX(), y);
+        resetOrigin();
     }
 
+    /**
+     * Sets the rotation of the projectile, which also points its velocity and its trajectory in the new direction.
+     * @param angle The rotation angle.
+     */
     @Override
     public void setRotation(float angle) {
-        sprite.setRotation(angle);
-        polygon.setRotation(angle);
+        body.setRotation(angle);
+        body.setVelocity(movementSpeed * MathUtils.cosDeg(angle), movementSpeed * MathUtils.sinDeg(angle));
+        resetOrigin();
     }
 
     @Override
     public float getRotation() {
-        return sprite.getRotation();
+        return body.getRotation();
     }
 
     @Override
     public void rotateLeft() {
-        sprite.rotate(-rotationSpeed);
+        setRotation(getRotation() - rotationSpeed);
     }
 
     @Override
     public void rotateRight() {
-        sprite.rotate(rotationSpeed);
+        setRotation(getRotation() + rotationSpeed);
     }
 
     @Override
     public void moveForward() {
-        val angle = sprite.getRotation();
-        val xVelocity = movementSpeed * MathUtils.cosDeg(angle);
-        val yVelocity = movementSpeed * MathUtils.sinDeg(angle);
-
-        sprite.translate(xVelocity, yVelocity);
-        polygon.translate(xVelocity, yVelocity);
+        body.integrate(1);
     }
 
     @Override
     public void moveBack() {
-        val angle = sprite.getRotation();
-        val xVelocity = -movementSpeed * MathUtils.cosDeg(angle);
-        val yVelocity = -movementSpeed * MathUtils.sinDeg(angle);
-
-        sprite.translate(xVelocity, yVelocity);
-        polygon.translate(xVelocity, yVelocity);
+        body.integrate(-1);
     }
 }
@@ -1,15 +1,16 @@
 package com.github.moribund.objects.nonplayable.projectile;
 
-import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
-import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.val;
 
 import java.io.InvalidObjectException;
 
 /**
  * The {@code ProjectileBuilder} follows the <a href="https://en.wikipedia.org/wiki/Builder_pattern">Builder pattern</a>
- * to allow for an easy-to-use API to create a rather-complex object: a {@link Projectile}.
+ * to allow for an easy-to-use API to create a rather-complex object: a {@link Projectile}. The projectile itself is
+ * obtained from its {@link ProjectilePool}.
  */
 public final class ProjectileBuilder {
     private float x;
@@ -17,7 +18,8 @@ public final class ProjectileBuilder {
     private float rotationSpeed;
     private float movingSpeed = -1;
     private float angle;
-    private ObjectSet<DrawableGameAsset> ignores;
+    private int uniqueId = -1;
+    private final IntList ignoredPlayerIds = new IntArrayList(1);
     private ProjectileType projectileType;
     private PlayableCharacter source;
 
@@ -43,6 +45,16 @@ public final class ProjectileBuilder {
         return this;
     }
 
+    /**
+     * Takes in the unique ID the server assigned to the {@link Projectile}.
+     * @param uniqueId The unique ID of the projectile.
+     * @return This builder to allow for the building of other attributes.
+     */
+    public ProjectileBuilder withUniqueId(int uniqueId) {
+        this.uniqueId = uniqueId;
+        return this;
+    }
+
     /**
      * Takes in an angle to start the {@link Projectile} at initially.
      * @param angle The initial angle of rotation.
@@ -74,16 +86,12 @@ public final class ProjectileBuilder {
     }
 
     /**
-     * The {@link DrawableGameAsset}s to ignore. Initiates the ignores field if it is null.
-     * @param ignore The {@link DrawableGameAsset} to ignore.
+     * A {@link PlayableCharacter} for the projectile to pass through, such as the one that launched it.
+     * @param ignore The {@link PlayableCharacter} to ignore.
      * @return This builder to allow for the building of other attributes.
-     * TODO change this parameter to {@link com.github.moribund.objects.attributes.Collidable}.
      */
-    public ProjectileBuilder ignoring(DrawableGameAsset ignore) {
-        if (ignores == null) {
-            ignores = new ObjectArraySet<>();
-        }
-        ignores.add(ignore);
+    public ProjectileBuilder ignoring(PlayableCharacter ignore) {
+        ignoredPlayerIds.add(ignore.getPlayerId());
         return this;
     }
 
@@ -110,7 +118,9 @@ public final class ProjectileBuilder {
             if (movingSpeed == -1) {
                 throw new InvalidObjectException("Unable to make a Projectile with no moving speed");
             }
-            return new Projectile(projectileType, source, x, y, angle, rotationSpeed, movingSpeed, ignores);
+            val projectile = ProjectilePool.obtain(projectileType);
+            projectile.init(source, uniqueId, x, y, angle, rotationSpeed, movingSpeed, ignoredPlayerIds);
+            return projectile;
         } catch (InvalidObjectException e) {
             e.printStackTrace();
         }
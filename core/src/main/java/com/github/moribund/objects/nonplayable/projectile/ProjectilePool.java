@@ -0,0 +1,78 @@
+package com.github.moribund.objects.nonplayable.projectile;
+
+import com.badlogic.gdx.utils.Pool;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+/**
+ * The pools of {@link Projectile}s, one per {@link ProjectileType} so that a pooled projectile keeps the sprite and
+ * collision shape of its type between uses. Projectiles are obtained and freed on the render thread only.
+ */
+@UtilityClass
+class ProjectilePool {
+
+    /**
+     * The most free projectiles kept per type.
+     */
+    private final int MAX_FREE = 64;
+
+    /**
+     * The pools, indexed by the ordinal of their {@link ProjectileType}.
+     */
+    private final TypePool[] POOLS = createPools();
+
+    /**
+     * Creates a pool for every {@link ProjectileType}.
+     * @return The pools, indexed by ordinal.
+     */
+    private TypePool[] createPools() {
+        val types = ProjectileType.values();
+        val pools = new TypePool[types.length];
+        for (ProjectileType type : types) {
+            pools[type.ordinal()] = new TypePool(type);
+        }
+        return pools;
+    }
+
+    /**
+     * Obtains a reset projectile of a type, creating one should the pool be empty.
+     * @param type The type of projectile.
+     * @return The projectile.
+     */
+    Projectile obtain(ProjectileType type) {
+        return POOLS[type.ordinal()].obtain();
+    }
+
+    /**
+     * Frees a projectile back into the pool of its type, resetting it.
+     * @param projectile The projectile to free.
+     */
+    void free(Projectile projectile) {
+        POOLS[projectile.getProjectileType().ordinal()].free(projectile);
+    }
+
+    /**
+     * The pool of a single {@link ProjectileType}.
+     */
+    private static final class TypePool extends Pool<Projectile> {
+
+        /**
+         * The type of the projectiles in the pool.
+         */
+        private final ProjectileType type;
+
+        /**
+         * Creates the pool of a type.
+         * @param type The type of the projectiles in the pool.
+         */
+        private TypePool(ProjectileType type) {
+            super(16, MAX_FREE);
+            this.type = type;
+        }
+
+        @Override
+        protected Projectile newObject() {
+            return new Projectile(type);
+        }
+    }
+}
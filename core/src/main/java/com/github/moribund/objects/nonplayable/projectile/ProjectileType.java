@@ -9,20 +9,31 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import lombok.Getter;
 
 /**
- * The projectile types of an item which contains its IDs, {@link Sprite}s, and {@link SpriteVertices}.
+ * The projectile types of an item which contains its IDs, {@link SpriteFile}s, and {@link SpriteVertices}. The
+ * sprite of a type is only looked up once it is drawn, so that projectiles can be simulated without textures.
  */
 public enum ProjectileType {
-    ARROW(0, SpriteContainer.getInstance().getSprite(SpriteFile.ARROW_PROJECTILE), SpriteVertices.ARROW_PROJECTILE),
-    DART(1, SpriteContainer.getInstance().getSprite(SpriteFile.DART_PROJECTILE), SpriteVertices.DART_PROJECTILE),
-    SPEAR(2, SpriteContainer.getInstance().getSprite(SpriteFile.SPEAR_PROJECTILE), SpriteVertices.SPEAR_PROJECTILE);
+    ARROW(0, SpriteFile.ARROW_PROJECTILE, SpriteVertices.ARROW_PROJECTILE),
+    DART(1, SpriteFile.DART_PROJECTILE, SpriteVertices.DART_PROJECTILE),
+    SPEAR(2, SpriteFile.SPEAR_PROJECTILE, SpriteVertices.SPEAR_PROJECTILE);
 
     private static final Int2ObjectMap<ProjectileType> VALUES;
+
+    /**
+     * The speed a predicted projectile is launched at before the server has sent a speed for its type.
+     */
+    private static final int DEFAULT_PREDICTED_SPEED = 10;
     @Getter
     private final int id;
     @Getter
-    private final Sprite sprite;
+    private final SpriteFile spriteFile;
     @Getter
     private final SpriteVertices spriteVertices;
+    /**
+     * The speed the server last launched a projectile of the type at, which predicted projectiles of the type are
+     * launched at.
+     */
+    private int predictedSpeed = DEFAULT_PREDICTED_SPEED;
 
     static {
         VALUES = new Int2ObjectOpenHashMap<>();
@@ -31,13 +42,37 @@ public enum ProjectileType {
         }
     }
 
-    ProjectileType(int id, Sprite sprite, SpriteVertices spriteVertices) {
+    ProjectileType(int id, SpriteFile spriteFile, SpriteVertices spriteVertices) {
         this.id = id;
-        this.sprite = sprite;
+        this.spriteFile = spriteFile;
         this.spriteVertices = spriteVertices;
     }
 
     public static ProjectileType getForId(int id) {
         return VALUES.get(id);
     }
+
+    /**
+     * Gets the speed to launch a predicted projectile of the type at.
+     * @return The speed the server last launched a projectile of the type at.
+     */
+    public int getPredictedSpeed() {
+        return predictedSpeed;
+    }
+
+    /**
+     * Records the speed the server launched a projectile of the type at, for the next predicted projectile.
+     * @param movementSpeed The speed of the projectile.
+     */
+    public void speedLaunched(int movementSpeed) {
+        predictedSpeed = movementSpeed;
+    }
+
+    /**
+     * Gets the loaded {@link Sprite} of the projectile type.
+     * @return The sprite.
+     */
+    public Sprite getSprite() {
+        return SpriteContainer.getInstance().getSprite(spriteFile);
+    }
 }
@@ -0,0 +1,155 @@
+package com.github.moribund.objects.nonplayable.projectile;
+
+import com.github.moribund.MoribundClient;
+import com.github.moribund.objects.playable.players.PlayableCharacter;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The {@code ProjectileUpdater} runs the simulation step of all {@link Projectile}s. With few projectiles, each is
+ * processed in turn through {@link Projectile#processFlags()}. Once there are at least
+ * {@link ProjectileUpdater#PARALLEL_THRESHOLD} projectiles, the step is split in three phases:
+ *
+ * <ol>
+ *     <li>On the render thread, the collision shapes of the players are prepared.</li>
+ *     <li>The movement and collision tests of the projectiles are spread across the {@link ForkJoinPool}. Each
+ *     projectile only writes to its own slot and collision shape, and is only tested against the players in the
+ *     cells of the {@link MoribundClient#playerGrid} around it. The grid is read-only for the duration of this
+ *     phase, as it is only written on the render thread, which waits for the work to finish. The collisions found
+ *     are buffered rather than enacted.</li>
+ *     <li>Back on the render thread, every projectile is moved in the
+ *     {@link MoribundClient#projectileGrid} and its buffered collision, or its expiry, is enacted in the order the
+ *     projectiles were given in, so the outcome does not depend on how the work was scheduled.</li>
+ * </ol>
+ */
+@UtilityClass
+public class ProjectileUpdater {
+
+    /**
+     * The amount of projectiles from which the step is run in parallel, configurable through the
+     * {@code moribund.parallelThreshold} system property.
+     */
+    private final int PARALLEL_THRESHOLD = Integer.getInteger("moribund.parallelThreshold", 256);
+
+    /**
+     * The most projectiles a single fork-join task processes without splitting further.
+     */
+    private final int BATCH_SIZE = 64;
+
+    /**
+     * The projectiles of the current step, reused between steps.
+     */
+    private Projectile[] projectiles = new Projectile[0];
+
+    /**
+     * The player each projectile of the current step collided with, reused between steps.
+     */
+    private PlayableCharacter[] collisions = new PlayableCharacter[0];
+
+    /**
+     * The players near a projectile, gathered from the {@link MoribundClient#playerGrid} by each thread of the
+     * {@link ForkJoinPool} into its own list.
+     */
+    private final ThreadLocal<ObjectList<PlayableCharacter>> COLLISION_CANDIDATES =
+            ThreadLocal.withInitial(ObjectArrayList::new);
+
+    /**
+     * Runs the simulation step of a list of projectiles. This is called once per tick from the render thread.
+     * @param tickProjectiles The projectiles to process, in the order their outcomes are enacted.
+     */
+    public void update(ObjectList<Projectile> tickProjectiles) {
+        val count = tickProjectiles.size();
+        if (count < PARALLEL_THRESHOLD) {
+            tickProjectiles.forEach(Projectile::processFlags);
+            return;
+        }
+        if (projectiles.length < count) {
+            projectiles = new Projectile[count];
+            collisions = new PlayableCharacter[count];
+        }
+        tickProjectiles.toArray(projectiles);
+        preparePlayers();
+        ForkJoinPool.commonPool().invoke(new StepTask(0, count));
+        for (int i = 0; i < count; i++) {
+            val projectile = projectiles[i];
+            if (!projectile.isRemoved()) {
+                projectile.updateGrid();
+                projectile.resolve(collisions[i]);
+            }
+            projectiles[i] = null;
+            collisions[i] = null;
+        }
+    }
+
+    /**
+     * Computes the bounds of the collision shapes of the players up front, which leaves the shapes only read while
+     * projectiles are tested against them from several threads. This is done on the render thread before the work
+     * is forked.
+     */
+    private void preparePlayers() {
+        for (PlayableCharacter player : MoribundClient.getInstance().getPlayers().values()) {
+            player.getCollisionShape().getBounds();
+        }
+    }
+
+    /**
+     * The fork-join task that moves and tests a range of the {@link ProjectileUpdater#projectiles}, splitting it in
+     * halves until it is at most {@link ProjectileUpdater#BATCH_SIZE} projectiles long.
+     */
+    @SuppressWarnings("serial")
+    private final class StepTask extends RecursiveAction {
+
+        /**
+         * The first index of the range.
+         */
+        private final int from;
+
+        /**
+         * The index after the last of the range.
+         */
+        private final int to;
+
+        /**
+         * Creates a task over a range of the projectiles.
+         * @param from The first index of the range.
+         * @param to The index after the last of the range.
+         */
+        StepTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                step();
+                return;
+            }
+            val middle = (from + to) >>> 1;
+            invokeAll(new StepTask(from, middle), new StepTask(middle, to));
+        }
+
+        /**
+         * Moves and tests each projectile of the range, buffering the collisions found.
+         */
+        private void step() {
+            val candidates = COLLISION_CANDIDATES.get();
+            for (int i = from; i < to; i++) {
+                val projectile = projectiles[i];
+                if (projectile.isRemoved()) {
+                    continue;
+                }
+                val startX = projectile.getX();
+                val startY = projectile.getY();
+                projectile.advance();
+                collisions[i] = projectile.findCollision(projectile.getX() - startX, projectile.getY() - startY,
+                        candidates);
+            }
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package com.github.moribund.objects.playable.players;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.github.moribund.MoribundClient;
+import com.github.moribund.graphics.animations.Animation;
+import com.github.moribund.graphics.animations.AnimationListener;
+import com.github.moribund.graphics.animations.AnimationPlayback;
+import com.github.moribund.graphics.sprites.SpriteContainer;
+import com.github.moribund.graphics.sprites.SpriteFile;
+import com.github.moribund.graphics.sprites.SpriteVertices;
+import com.github.moribund.net.packets.combat.ProjectileCollisionPacket;
+import com.github.moribund.objects.attributes.RestrictedMovable;
+import com.github.moribund.objects.collision.CollisionShape;
+import com.github.moribund.objects.flags.Flag;
+import com.github.moribund.objects.flags.FlagConstants;
+import com.github.moribund.objects.nonplayable.items.EquippedItemType;
+import com.github.moribund.objects.nonplayable.items.Item;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
+import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
+import com.github.moribund.objects.playable.players.containers.ItemContainer;
+import com.github.moribund.simulation.Body;
+import com.github.moribund.utils.GLUtils;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The state every {@link PlayableCharacter} carries, whether it is the {@link Player} of this client or a
+ * {@link RemotePlayer}: its {@link Body}, its sprite, its equipment which decides the sprite, its movement
+ * {@link Flag}s and the animation it is playing.
+ */
+public abstract class AbstractPlayableCharacter implements PlayableCharacter, AnimationListener {
+
+    private static final int MOVEMENT_SPEED = 5;
+
+    /**
+     * The {@link Flag}s raised by each movement key, which are relayed by the server for every player.
+     */
+    private static final Int2ObjectMap<Flag<RestrictedMovable>> MOVEMENT_KEYS = new Int2ObjectOpenHashMap<>();
+
+    static {
+        MOVEMENT_KEYS.put(Input.Keys.W, FlagConstants.MOVE_UP_FLAG);
+        MOVEMENT_KEYS.put(Input.Keys.S, FlagConstants.MOVE_DOWN_FLAG);
+        MOVEMENT_KEYS.put(Input.Keys.D, FlagConstants.MOVE_RIGHT_FLAG);
+        MOVEMENT_KEYS.put(Input.Keys.A, FlagConstants.MOVE_LEFT_FLAG);
+    }
+
+    /**
+     * The state of a character as drawn when hit, read from the {@link com.github.moribund.simulation.StateHistory}
+     * and reused between the hits enacted on the render thread.
+     */
+    private static final float[] SEEN_STATE = new float[3];
+
+    @Getter
+    private final int gameId;
+    /**
+     * The unique player ID based on the {@link com.esotericsoftware.kryonet.Connection} of
+     * the client to the server.
+     */
+    @Getter
+    private final int playerId;
+    @Getter
+    private final String username;
+    @Getter
+    private final int maxHitpoints;
+    /**
+     * The equipment of the character, which decides its appearance.
+     */
+    @Getter
+    private final ItemContainer equipment;
+    /**
+     * The {@link Body} holding the location, rotation, hitpoints and {@link CollisionShape} of the character.
+     */
+    @Getter
+    private final Body body;
+    /**
+     * The {@link Sprite} that represents the character in the live game visually, created once it is first drawn
+     * after the {@link AbstractPlayableCharacter#spriteFile} changes. Its location and rotation are only synced from
+     * the {@link AbstractPlayableCharacter#body} when drawn.
+     */
+    private Sprite sprite;
+    /**
+     * The {@link SpriteFile} the {@link AbstractPlayableCharacter#sprite} is drawn from.
+     */
+    private SpriteFile spriteFile;
+    /**
+     * The mask of the currently active {@link Flag}s on the character that will soon be removed. This is cleared
+     * whenever the respective flags have been removed from the flag mask in the
+     * {@link AbstractPlayableCharacter#body}.
+     */
+    private int flagsToRemove;
+    /**
+     * The playback of the animation the character is currently playing. It is started, drawn and ended on the render
+     * thread only.
+     */
+    private AnimationPlayback currentAnimation;
+    /**
+     * The projectile to launch once the {@link AbstractPlayableCharacter#currentAnimation} ends.
+     */
+    private Projectile pendingProjectile;
+    /**
+     * The handle of the {@link AbstractPlayableCharacter#pendingProjectile} when its animation started, as it may
+     * have been removed and reused from its pool by the time the animation ends.
+     */
+    private int pendingHandle;
+
+    /**
+     * Makes a character and spawns its {@link Body}.
+     * @param gameId The ID of the game the character is in.
+     * @param playerId The unique player ID.
+     * @param username The username of the character.
+     * @param maxHitpoints The maximum hitpoints of the character, which it starts with.
+     * @param equipment The container to hold the equipment of the character in.
+     */
+    AbstractPlayableCharacter(int gameId, int playerId, String username, int maxHitpoints, ItemContainer equipment) {
+        this.gameId = gameId;
+        this.playerId = playerId;
+        this.username = username;
+        this.maxHitpoints = maxHitpoints;
+        this.equipment = equipment;
+        body = new Body(MoribundClient.getInstance().getEntityStore(), SpriteVertices.PLAYER);
+        body.spawn();
+        body.setHitpoints(maxHitpoints);
+        spriteFile = SpriteFile.PLAYER;
+        equipment.addListener(container -> updateAppearance());
+    }
+
+    /**
+     * Changes the sprite and outline of the character.
+     * @param spriteFile The sprite to draw the character with.
+     * @param spriteVertices The outline of the sprite.
+     */
+    void changeCharacter(SpriteFile spriteFile, SpriteVertices spriteVertices) {
+        if (this.spriteFile != spriteFile) {
+            this.spriteFile = spriteFile;
+            sprite = null;
+        }
+        body.setOutline(spriteVertices);
+    }
+
+    @Override
+    public CollisionShape getCollisionShape() {
+        return body.getCollisionShape();
+    }
+
+    /**
+     * Adds the character to the list of {@link com.github.moribund.objects.attributes.Flaggable} objects and the
+     * {@link MoribundClient#playerGrid}.
+     */
+    @Override
+    public void onSpawn() {
+        MoribundClient.getInstance().getFlaggables().add(this);
+        MoribundClient.getInstance().getPlayerGrid().insert(this, getX(), getY());
+    }
+
+    /**
+     * Removes the character from the list of {@link com.github.moribund.objects.attributes.Flaggable} objects and the
+     * {@link MoribundClient#playerGrid}, and despawns its {@link Body}.
+     */
+    @Override
+    public void onDespawn() {
+        MoribundClient.getInstance().getFlaggables().remove(this);
+        MoribundClient.getInstance().getPlayerGrid().remove(this);
+        body.despawn();
+    }
+
+    /**
+     * Flags a new {@link Flag} on the character.
+     *
+     * @param flag The {@link Flag} to flag.
+     */
+    void flag(Flag<RestrictedMovable> flag) {
+        val mask = FlagConstants.mask(flag);
+        body.setFlags(body.getFlags() | mask);
+        flagsToRemove &= ~mask;
+    }
+
+    /**
+     * Removes a {@link Flag} on the character.
+     *
+     * @param flag The {@link Flag} that is not longer active.
+     */
+    void flagToRemove(Flag<RestrictedMovable> flag) {
+        flagsToRemove |= FlagConstants.mask(flag);
+    }
+
+    /**
+     * Flags the movement {@link Flag} of a key the server relayed as pressed.
+     * @param keyPressed The {@link com.badlogic.gdx.Input.Keys} value that was pressed.
+     */
+    @Override
+    public void keyPressed(int keyPressed) {
+        val flag = MOVEMENT_KEYS.get(keyPressed);
+        if (flag != null) {
+            flag(flag);
+        }
+    }
+
+    /**
+     * Removes the movement {@link Flag} of a key the server relayed as lifted.
+     * @param keyUnpressed The {@link com.badlogic.gdx.Input.Keys} value that was lifted.
+     */
+    @Override
+    public void keyUnpressed(int keyUnpressed) {
+        val flag = MOVEMENT_KEYS.get(keyUnpressed);
+        if (flag != null) {
+            flagToRemove(flag);
+        }
+    }
+
+    @Override
+    public void processFlags() {
+        val flags = body.getFlags() & ~flagsToRemove;
+        body.setFlags(flags);
+        flagsToRemove = 0;
+        FlagConstants.process(flags, this);
+        updateGrid();
+        advanceAnimation();
+    }
+
+    @Override
+    public void updateGrid() {
+        MoribundClient.getInstance().getPlayerGrid().update(this, getX(), getY());
+    }
+
+    @Override
+    public void setRotation(float angle) {
+        body.setRotation(angle);
+    }
+
+    @Override
+    public float getRotation() {
+        return body.getRotation();
+    }
+
+    @Override
+    public float getX() {
+        return body.getX();
+    }
+
+    @Override
+    public float getY() {
+        return body.getY();
+    }
+
+    @Override
+    public void setX(float x) {
+        body.setPosition(x, getY());
+    }
+
+    @Override
+    public void setY(float y) {
+        body.setPosition(getX(), y);
+    }
+
+    @Override
+    public void draw(Batch batch) {
+        val alpha = MoribundClient.getInstance().getClock().getAlpha();
+        if (sprite == null) {
+            sprite = new Sprite(SpriteContainer.getInstance().getSprite(spriteFile));
+        }
+        sprite.setPosition(body.getRenderX(alpha), body.getRenderY(alpha));
+        sprite.setRotation(body.getRenderRotation(alpha));
+        val animation = currentAnimation;
+        if (animation != null) {
+            animation.draw(batch, sprite, MoribundClient.getInstance().getClock().getTick(), alpha);
+        } else {
+            sprite.draw(batch);
+        }
+        drawUniversalHealthBar(batch);
+    }
+
+    @Override
+    public float getRenderX() {
+        return body.getRenderX(MoribundClient.getInstance().getClock().getAlpha());
+    }
+
+    @Override
+    public float getRenderY() {
+        return body.getRenderY(MoribundClient.getInstance().getClock().getAlpha());
+    }
+
+    @Override
+    public int getHitpoints() {
+        return body.getHitpoints();
+    }
+
+    @Override
+    public void setHitpoints(int hitpoints) {
+        body.setHitpoints(hitpoints);
+    }
+
+    private void drawUniversalHealthBar(Batch batch) {
+        val hitpointsPercentage = getHitpoints() / (double) maxHitpoints;
+        val biggestLength = Math.max(sprite.getHeight(), sprite.getWidth());
+        batch.draw(GLUtils.getRedTexture(), sprite.getX() + 3, sprite.getY() + biggestLength + 10, biggestLength - 20, 10);
+        batch.draw(GLUtils.getGreenTexture(), sprite.getX() + 3, sprite.getY() + biggestLength + 10, (int) ((biggestLength - 20) * hitpointsPercentage), 10);
+    }
+
+    @Override
+    public void updateAppearance() {
+        val equippedItemType = getEquippedItemType();
+        if (equippedItemType != null) {
+            changeCharacter(equippedItemType.getSpriteFile(), equippedItemType.getSpriteVertices());
+        } else {
+            changeCharacter(SpriteFile.PLAYER, SpriteVertices.PLAYER);
+        }
+    }
+
+    /**
+     * Gets the first item in the equipment of the character that changes its appearance, which is the weapon it
+     * holds.
+     * @return The {@link EquippedItemType} of the item, or {@code null} should the character hold none.
+     */
+    EquippedItemType getEquippedItemType() {
+        for (Item item : equipment.getItems()) {
+            if (item == null) {
+                continue;
+            }
+            val equippedItemType = EquippedItemType.getItemType(item.getItemType().getId());
+            if (equippedItemType != null) {
+                return equippedItemType;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void animateThenLaunch(Animation animation, ProjectileType projectileType, int movementSpeed, int uniqueProjectileId) {
+        startShot(animation, projectileType, movementSpeed, uniqueProjectileId);
+    }
+
+    /**
+     * Starts an animation, and registers the projectile to launch once it ends.
+     * @param animation The animation to play.
+     * @param projectileType The type of the projectile to launch.
+     * @param movementSpeed The speed of the projectile.
+     * @param uniqueProjectileId The unique ID to register the projectile under.
+     * @return The projectile to launch, or {@code null} should it fail to be made.
+     */
+    Projectile startShot(Animation animation, ProjectileType projectileType, int movementSpeed, int uniqueProjectileId) {
+        if (currentAnimation != null) {
+            // a shot fired before the previous one was launched cuts the previous animation short
+            endAnimation();
+        }
+        currentAnimation = AnimationPlayback.start(animation.getFile(),
+                MoribundClient.getInstance().getClock().getTick(), this);
+        val projectile = Projectile.builder()
+                .by(this)
+                .type(projectileType)
+                .withUniqueId(uniqueProjectileId)
+                .withMovementSpeed(movementSpeed)
+                .ignoring(this)
+                .create();
+        if (projectile == null) {
+            return null;
+        }
+        Projectile.registerProjectile(projectile);
+        pendingProjectile = projectile;
+        pendingHandle = projectile.getBody().getHandle();
+        return projectile;
+    }
+
+    /**
+     * Launches the {@link AbstractPlayableCharacter#pendingProjectile} from where the character is once its
+     * animation ends, unless the projectile was removed in the meantime.
+     * @param playback The playback that ended.
+     */
+    @Override
+    public void animationEnded(AnimationPlayback playback) {
+        val projectile = pendingProjectile;
+        pendingProjectile = null;
+        if (projectile == null || projectile.getBody().getHandle() != pendingHandle) {
+            return;
+        }
+        if (Projectile.isRegistered(projectile)) {
+            projectile.setX(getX());
+            projectile.setY(getY());
+            projectile.setRotation(getRotation());
+            Projectile.launchProjectile(projectile);
+        } else {
+            projectile.removeProjectile();
+        }
+    }
+
+    /**
+     * Ends the {@link AbstractPlayableCharacter#currentAnimation} should it have reached its last frame. This is
+     * called every tick.
+     */
+    @Override
+    public void advanceAnimation() {
+        if (currentAnimation != null
+                && currentAnimation.isFinished(MoribundClient.getInstance().getClock().getTick())) {
+            endAnimation();
+        }
+    }
+
+    /**
+     * Ends the {@link AbstractPlayableCharacter#currentAnimation}, which notifies the character through
+     * {@link AbstractPlayableCharacter#animationEnded(AnimationPlayback)}.
+     */
+    private void endAnimation() {
+        val playback = currentAnimation;
+        currentAnimation = null;
+        playback.end();
+    }
+
+    @Override
+    public void moveUp() {
+        val speed = getYVelocity(false);
+        body.translate(0, speed);
+    }
+
+    @Override
+    public void moveDown() {
+        val speed = getYVelocity(true);
+        body.translate(0, speed);
+    }
+
+    @Override
+    public void moveRight() {
+        val speed = getXVelocity(false);
+        body.translate(speed, 0);
+    }
+
+    @Override
+    public void moveLeft() {
+        val speed = getXVelocity(true);
+        body.translate(speed, 0);
+    }
+
+    private float getXVelocity(boolean back) {
+        val xVelocity = (back ? -1 : 1) * MOVEMENT_SPEED;
+        val limitedVelocity = MoribundClient.getInstance().getWorldBounds().limitVelocityX(getX(), xVelocity);
+        return entersObstacle(getX() + limitedVelocity, getY()) ? 0 : limitedVelocity;
+    }
+
+    private float getYVelocity(boolean back) {
+        val yVelocity = (back ? -1 : 1) * MOVEMENT_SPEED;
+        val limitedVelocity = MoribundClient.getInstance().getWorldBounds().limitVelocityY(getY(), yVelocity);
+        return entersObstacle(getX(), getY() + limitedVelocity) ? 0 : limitedVelocity;
+    }
+
+    /**
+     * Checks whether moving to a location would take the character onto a blocked tile. A character that already
+     * stands on one, such as having been placed there by the server, is let out of it.
+     * @param x The x-coordinate of the location.
+     * @param y The y-coordinate of the location.
+     * @return If the move is to be stopped.
+     */
+    private boolean entersObstacle(float x, float y) {
+        return isObstructed(x, y) && !isObstructed(getX(), getY());
+    }
+
+    /**
+     * Checks whether the character would stand on a blocked tile of the {@link MoribundClient#obstacleMap} at a
+     * location. The character stands on a square around its center as wide as the shorter side of its outline, so
+     * that the test does not depend on its rotation.
+     * @param x The x-coordinate of the location.
+     * @param y The y-coordinate of the location.
+     * @return If the character would be obstructed.
+     */
+    private boolean isObstructed(float x, float y) {
+        val outline = body.getOutline();
+        val centerX = x + outline.getOriginX();
+        val centerY = y + outline.getOriginY();
+        val halfExtent = Math.min(outline.getWidth(), outline.getHeight()) / 2;
+        return MoribundClient.getInstance().getObstacleMap().isBlocked(centerX - halfExtent, centerY - halfExtent,
+                centerX + halfExtent, centerY + halfExtent);
+    }
+
+    /**
+     * Reports the hit of a projectile to the server, along with when and where the client drew this character as it
+     * was hit, which the server rewinds to to validate the hit. The hit is found while the ticks of the next frame are
+     * stepped, past what is on screen, so the state reported is that of the last frame drawn, see
+     * {@link com.github.moribund.simulation.GameClock#frameDrawn()}.
+     * @param projectile The projectile that hit the character.
+     * @see com.github.moribund.simulation.StateHistory
+     */
+    @Override
+    public void collide(Projectile projectile) {
+        val client = MoribundClient.getInstance();
+        val sourcePlayerId = projectile.getSource() == null ? -1 : projectile.getSource().getPlayerId();
+        val renderTick = client.getClock().getDrawnTick();
+        val renderAlpha = client.getClock().getDrawnAlpha();
+        val history = client.getStateHistory();
+        val seen = SEEN_STATE;
+        if (!history.getStateAt(renderTick, renderAlpha, playerId, seen)) {
+            seen[0] = getX();
+            seen[1] = getY();
+        }
+        val packet = new ProjectileCollisionPacket(gameId, playerId, sourcePlayerId,
+                projectile.getProjectileType().getId(), projectile.getUniqueId(), renderTick, renderAlpha,
+                history.getSnapshotIdAt(renderTick), seen[0], seen[1]);
+        projectile.removeProjectile();
+        client.getPacketDispatcher().sendTCP(packet);
+    }
+}
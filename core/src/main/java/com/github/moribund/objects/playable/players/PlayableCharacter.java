@@ -1,7 +1,5 @@
 package com.github.moribund.objects.playable.players;
 
-import com.badlogic.gdx.InputProcessor;
-import com.badlogic.gdx.math.Vector3;
 import com.github.moribund.graphics.animations.Animation;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.objects.attributes.Collidable;
@@ -9,16 +7,17 @@ import com.github.moribund.objects.attributes.Flaggable;
 import com.github.moribund.objects.attributes.RestrictedMovable;
 import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
 import com.github.moribund.objects.playable.players.containers.ItemContainer;
-import com.github.moribund.objects.playable.players.ui.Timer;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import com.github.moribund.simulation.Body;
+import com.github.moribund.simulation.Entity;
 
 /**
  * The {@code PlayableCharacter} interface is a template
  * for a character that can be interacted with by keys. All
- * playable characters are assumed as visible, movable, and
- * an input processor.
+ * playable characters are assumed as visible and movable. Only
+ * the {@link Player} of this client takes input and holds UI
+ * widgets, see {@link RemotePlayer}.
  */
-public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAsset, RestrictedMovable, InputProcessor {
+public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAsset, RestrictedMovable, Entity {
 
     /**
      * Gets the player's unique ID generated by the connection.
@@ -32,20 +31,6 @@ public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAs
      */
     int getGameId();
 
-    /**
-     * Binds the keys to the {@code keyBinds} using the
-     * {@link com.badlogic.gdx.Input.Keys} constants to delegate
-     * {@link Runnable} actions.
-     */
-    void bindKeys();
-
-    /**
-     * Gets the respective {@link PlayerAction} for the
-     * {@link com.badlogic.gdx.Input.Keys} value pressed.
-     * @return The key binds defined by {@link PlayableCharacter#bindKeys()}.
-     */
-    Int2ObjectMap<PlayerAction> getKeyBinds();
-
     /**
      * Handles the key being pressed by a player after it has gone through
      * client-server latency.
@@ -62,12 +47,6 @@ public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAs
      */
     void keyUnpressed(int keyUnpressed);
 
-    /**
-     * Gets the player's inventory.
-     * @return The player's inventory.
-     */
-    ItemContainer getInventory();
-
     /**
      * Gets the player's equipment.
      * @return The player's equipment.
@@ -93,27 +72,32 @@ public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAs
     int getMaxHitpoints();
 
     /**
-     * Updates the appearance of the player.
+     * Updates the appearance of the player to what it has equipped. This is called whenever the equipment of the
+     * player changes.
      */
     void updateAppearance();
 
     /**
      * Animates an {@link Animation}, the launches a {@link com.github.moribund.objects.nonplayable.projectile.Projectile}
      * at a given speed.
+     * @param uniqueProjectileId The unique ID the server assigned to the projectile being launched.
      */
-    void animateThenLaunch(Animation animation, ProjectileType projectile, int movementSpeed);
+    void animateThenLaunch(Animation animation, ProjectileType projectile, int movementSpeed, int uniqueProjectileId);
 
     /**
-     * Gets the timer for death.
-     * @return The timer for death.
+     * Ends the animation of the player should it have reached its last frame. This is done every tick as part of
+     * {@link PlayableCharacter#processFlags()}, and on its own while the player is
+     * {@link com.github.moribund.simulation.UpdateTier#DORMANT}.
      */
-    Timer getDeathTimer();
+    void advanceAnimation();
 
     /**
-     * Gets the timer for the lobby.
-     * @return The timer for the lobby.
+     * Moves the player in the {@link com.github.moribund.MoribundClient#playerGrid} to its current location. The
+     * location may be set at any point, such as by a packet, but the grid is only re-bucketed here, once per tick as
+     * part of {@link PlayableCharacter#processFlags()}, and on its own while the player is
+     * {@link com.github.moribund.simulation.UpdateTier#DORMANT}.
      */
-    Timer getLobbyTimer();
+    void updateGrid();
 
     /**
      * Gets the player's username
@@ -122,13 +106,20 @@ public interface PlayableCharacter extends Collidable, Flaggable, DrawableGameAs
     String getUsername();
 
     /**
-     * Faces the player at a given world space point.
-     * @param location The world space point to face.
-     * @see com.badlogic.gdx.graphics.Camera#unproject(Vector3)
+     * Gets the x-coordinate the player is drawn at, interpolated between the previous and current tick.
+     * @return The interpolated x-coordinate.
      */
-    void faceLocation(Vector3 location);
+    float getRenderX();
 
-    void updateLocation();
+    /**
+     * Gets the y-coordinate the player is drawn at, interpolated between the previous and current tick.
+     * @return The interpolated y-coordinate.
+     */
+    float getRenderY();
 
-    void updateRotation();
+    /**
+     * Gets the {@link Body} holding the simulation state of the player.
+     * @return The body of the player.
+     */
+    Body getBody();
 }
\ No newline at end of file
@@ -3,20 +3,12 @@ package com.github.moribund.objects.playable.players;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector3;
 import com.github.moribund.MoribundClient;
-import com.github.moribund.graphics.animations.Animation;
-import com.github.moribund.graphics.animations.AnimationContainer;
-import com.github.moribund.graphics.animations.SpriteAnimation;
 import com.github.moribund.graphics.fonts.FontFile;
-import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.graphics.sprites.SpriteVertices;
 import com.github.moribund.net.packets.account.ExitGamePacket;
-import com.github.moribund.net.packets.combat.ProjectileCollisionPacket;
 import com.github.moribund.net.packets.input.KeyPressedPacket;
 import com.github.moribund.net.packets.input.KeyUnpressedPacket;
 import com.github.moribund.net.packets.input.MouseClickedPacket;
@@ -24,86 +16,65 @@ import com.github.moribund.net.packets.items.DropItemPacket;
 import com.github.moribund.net.packets.items.PickupItemPacket;
 import com.github.moribund.net.packets.movement.LocationPacket;
 import com.github.moribund.net.packets.movement.RotationPacket;
-import com.github.moribund.objects.flags.Flag;
 import com.github.moribund.objects.flags.FlagConstants;
-import com.github.moribund.objects.nonplayable.items.EquippedItemType;
 import com.github.moribund.objects.nonplayable.items.GroundItem;
-import com.github.moribund.objects.nonplayable.items.Item;
-import com.github.moribund.objects.nonplayable.projectile.Projectile;
 import com.github.moribund.objects.nonplayable.projectile.ProjectileType;
 import com.github.moribund.objects.playable.players.containers.Equipment;
 import com.github.moribund.objects.playable.players.containers.Inventory;
+import com.github.moribund.objects.playable.players.containers.PendingItemActions;
 import com.github.moribund.objects.playable.players.ui.*;
-import com.github.moribund.utils.GLUtils;
+import com.github.moribund.simulation.GameClock;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
-import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.val;
 
 /**
- * The {@code Player} that is being controlled by a client. The {@code Player}
- * is a type of {@link InputProcessor} for it is bound to {@link Player#keyBinds}.
+ * The {@code Player} that is being controlled by this client. The {@code Player}
+ * is a type of {@link InputProcessor} for it is bound to {@link Player#keyBinds}, and
+ * it alone holds the UI widgets: its inventory, equipment, health bar and timers. The
+ * players of other clients are {@link RemotePlayer}s.
+ *
+ * <p>
+ * A click to shoot starts the animation and the projectile of the held weapon at once, rather than after the
+ * round trip to the server. The predicted shot is tagged with the sequence number of the click, and reconciled with
+ * the shot the server answers the click with, see {@link Player#reconcileShot(int, ProjectileType, int, int)}.
+ * Likewise equipping, unequipping, dropping and picking up items show at once, see {@link PendingItemActions}.
  */
-public class Player implements PlayableCharacter {
+public class Player extends AbstractPlayableCharacter implements InputProcessor {
 
-    private static final int ROTATION_SPEED = 5;
-    private static final int MOVEMENT_SPEED = 5;
-
-    @Getter
-    private final int gameId;
     /**
-     * The unique player ID based on the {@link com.esotericsoftware.kryonet.Connection} of
-     * the client to the server.
+     * The amount of ticks a predicted shot waits for the server before it is cancelled.
      */
-    @Getter
-    private final int playerId;
+    private static final int PREDICTION_TIMEOUT_TICKS = GameClock.TICK_RATE;
+
     @Getter
     private final Inventory inventory;
     private final LocalHealthBar healthBar;
     @Getter
-    private final Equipment equipment;
-    @Getter
     private final Timer deathTimer;
     @Getter
     private final Timer lobbyTimer;
-    @Getter
-    private Polygon polygon;
-    /**
-     * The {@link Sprite} of this {@code Player} that represents the {@code Player}
-     * in the live game visually.
-     */
-    private Sprite sprite;
     /**
      * The respective {@link com.badlogic.gdx.Input.Keys} that are bound to
      * {@link Runnable} methods defined in this class.
      */
     private Int2ObjectMap<PlayerAction> keyBinds;
     /**
-     * The currently active {@link Flag}s on the {@code Player}.
+     * The sequence number of the last click to shoot.
      */
-    private final ObjectSet<Flag> flags;
+    private int clickSequence;
     /**
-     * The currently active {@link Flag}s on the {@code Player} that will soon be removed. This is cleared whenever
-     * the respective {@link Player#flags} have been removed from their {@link ObjectSet}.
+     * The shots predicted on a click that the server has not answered yet, by the sequence number of the click.
      */
-    private final ObjectSet<Flag> flagsToRemove;
-    @Getter @Setter
-    private int hitpoints;
-    @Getter
-    private final String username;
-    @Getter
-    private int maxHitpoints;
-    /**
-     * The animation currently rendering for the player.
-     */
-    private SpriteAnimation currentAnimation;
+    private final Int2ObjectMap<PredictedShot> predictedShots;
     /**
-     * The update packet delay that allows for a limitation of the packets being sent for location and rotation updating.
+     * The item actions applied ahead of the server that the server has not acknowledged yet.
      */
-    private int updatePacketDelay = 0;
+    @Getter
+    private final PendingItemActions pendingItemActions;
 
     /**
      * Makes a {@code Player} with its unique player ID generated by
@@ -113,84 +84,35 @@ public class Player implements PlayableCharacter {
      * @param playerId The unique player ID.
      */
     public Player(int gameId, int playerId, String username, int maxHitpoints) {
-        this.gameId = gameId;
-        this.playerId = playerId;
-        this.username = username;
-        this.maxHitpoints = maxHitpoints;
-        hitpoints = maxHitpoints;
-        flags = new ObjectArraySet<>();
-        flagsToRemove = new ObjectArraySet<>();
-        sprite = new Sprite(SpriteContainer.getInstance().getSprite(SpriteFile.PLAYER));
+        super(gameId, playerId, username, maxHitpoints, new Equipment());
         inventory = new Inventory();
-        equipment = new Equipment();
+        predictedShots = new Int2ObjectOpenHashMap<>();
+        pendingItemActions = new PendingItemActions(inventory, getEquipment());
         healthBar = new LocalHealthBar(this);
         deathTimer = new DeathTimer(FontFile.CODE_BOLD, LocalHealthBar.X_LOCATION + 35, LocalHealthBar.Y_LOCATION + 50, 1.0f);
         lobbyTimer = new LobbyTimer(FontFile.CODE_LIGHT, (Gdx.graphics.getWidth() / 2) - 10, Gdx.graphics.getHeight() - 50, 1.0f);
-        polygon = new Polygon(SpriteVertices.PLAYER.getVertices());
-        polygon.setOrigin(sprite.getOriginX(), sprite.getOriginY());
+    }
+
+    @Override
+    public Equipment getEquipment() {
+        return (Equipment) super.getEquipment();
     }
 
     public void addUIAssets() {
         val assets = MoribundClient.getInstance().getDrawableUIAssets();
         assets.add(inventory);
-        assets.add(equipment);
+        assets.add(getEquipment());
         assets.add(healthBar);
         assets.add(deathTimer);
         assets.add(lobbyTimer);
         assets.add(new EscapeKeyText(FontFile.CODE_BOLD_2));
     }
 
-    private void changeCharacter(SpriteFile spriteFile, SpriteVertices spriteVertices) {
-        val sprite = new Sprite(SpriteContainer.getInstance().getSprite(spriteFile));
-        sprite.setPosition(this.sprite.getX(), this.sprite.getY());
-        sprite.setRotation(this.sprite.getRotation());
-        this.sprite = sprite;
-
-        val polygon = new Polygon();
-        polygon.setVertices(spriteVertices.getVertices());
-        polygon.setOrigin(sprite.getOriginX(), sprite.getOriginY());
-        polygon.setPosition(this.polygon.getX(), this.polygon.getY());
-        polygon.setRotation(this.polygon.getRotation());
-        this.polygon = polygon;
-    }
-
-    /**
-     * Flags a new {@link Flag} on the player.
-     *
-     * @param flag The {@link Flag} to flag.
-     */
-    private void flag(Flag flag) {
-        flags.add(flag);
-    }
-
     /**
-     * Removes a {@link Flag} on the player.
-     *
-     * @param flag The {@link Flag} that is not longer active.
+     * Binds the keys to the {@link Player#keyBinds} using the
+     * {@link com.badlogic.gdx.Input.Keys} constants to delegate
+     * {@link Runnable} actions.
      */
-    private void flagToRemove(Flag flag) {
-        flagsToRemove.add(flag);
-    }
-
-    @Override
-    public void processFlags() {
-        flags.removeAll(flagsToRemove);
-        flagsToRemove.clear();
-        flags.forEach(flag -> flag.processFlag(this));
-    }
-
-    @Override
-    public void setRotation(float angle) {
-        sprite.setRotation(angle);
-        polygon.setRotation(angle);
-    }
-
-    @Override
-    public float getRotation() {
-        return sprite.getRotation();
-    }
-
-    @Override
     public void bindKeys() {
         keyBinds.put(Input.Keys.W, new PlayerAction() {
             @Override
@@ -239,10 +161,7 @@ public class Player implements PlayableCharacter {
         keyBinds.put(Input.Keys.E, new PlayerAction() {
             @Override
             public void keyPressed() {
-                val pickableObjectNear = getPickableObjectNearest();
-                if (pickableObjectNear != null) {
-                    sendPickupItemRequest(pickableObjectNear);
-                }
+                // the pickup is applied locally as the key goes down, see Player#keyDown(int)
             }
 
             @Override
@@ -264,7 +183,7 @@ public class Player implements PlayableCharacter {
         keyBinds.put(Input.Keys.ESCAPE, new PlayerAction() {
             @Override
             public void keyPressed() {
-                val logoutPacket = new ExitGamePacket(gameId, playerId);
+                val logoutPacket = new ExitGamePacket(getGameId(), getPlayerId());
                 MoribundClient.getInstance().getPacketDispatcher().sendTCP(logoutPacket);
             }
 
@@ -277,144 +196,29 @@ public class Player implements PlayableCharacter {
 
     private void sendPickupItemRequest(GroundItem groundItem) {
         val packetDispatcher = MoribundClient.getInstance().getPacketDispatcher();
-        val pickupItemPacket = new PickupItemPacket(gameId, playerId, groundItem.getItemType().getId(), groundItem.getX(), groundItem.getY());
+        val pickupItemPacket = new PickupItemPacket(getGameId(), getPlayerId(), groundItem.getItemType().getId(), groundItem.getX(), groundItem.getY());
+        pendingItemActions.pickup(groundItem);
         packetDispatcher.sendTCP(pickupItemPacket);
     }
 
     private GroundItem getPickableObjectNearest() {
-        for (GroundItem groundItem : MoribundClient.getInstance().getGroundItems()) {
-            if (groundItem.isTouching(sprite.getBoundingRectangle())) {
+        val bounds = getCollisionShape().getBounds();
+        val candidates = new ObjectArrayList<GroundItem>();
+        MoribundClient.getInstance().getGroundItemGrid().query(bounds.x, bounds.y,
+                bounds.x + bounds.width, bounds.y + bounds.height, candidates);
+        for (GroundItem groundItem : candidates) {
+            if (groundItem.isTouching(bounds)) {
                 return groundItem;
             }
         }
         return null;
     }
 
-    @Override
-    public float getX() {
-        return sprite.getX();
-    }
-
-    @Override
-    public float getY() {
-        return sprite.getY();
-    }
-
-    @Override
-    public void setX(float x) {
-        sprite.setX(x);
-        polygon.setPosition(x, getY());
-    }
-
-    @Override
-    public void setY(float y) {
-        sprite.setY(y);
-        polygon.setPosition(getX(), y);
-    }
-
-    @Override
-    public void draw(Batch batch) {
-        if (currentAnimation != null) {
-            currentAnimation.drawAnimation(batch, sprite);
-            if (currentAnimation.isFinished()) {
-                currentAnimation.end();
-                currentAnimation = null;
-            }
-        } else {
-            sprite.draw(batch);
-        }
-        drawUniversalHealthBar(batch);
-    }
-
-    private void drawUniversalHealthBar(Batch batch) {
-        val hitpointsPercentage = hitpoints / (double) maxHitpoints;
-        val biggestLength = Math.max(sprite.getHeight(), sprite.getWidth());
-        batch.draw(GLUtils.getRedTexture(), getX() + 3, getY() + biggestLength + 10, biggestLength - 20, 10);
-        batch.draw(GLUtils.getGreenTexture(), getX() + 3, getY() + biggestLength + 10, (int) ((biggestLength - 20) * hitpointsPercentage), 10);
-    }
-
-    @Override
-    public void updateAppearance() {
-        for (Item item : equipment.getItems()) {
-            val equippedItemType = EquippedItemType.getItemType(item.getItemType().getId());
-            if (equippedItemType != null) {
-                changeCharacter(equippedItemType.getSpriteFile(), equippedItemType.getSpriteVertices());
-                return;
-            }
-        }
-        changeCharacter(SpriteFile.PLAYER, SpriteVertices.PLAYER);
-    }
-
-    @Override
-    public void animateThenLaunch(Animation animation, ProjectileType projectileType, int movementSpeed) {
-        currentAnimation = AnimationContainer.getInstance().getAnimation(animation.getFile());
-        val projectile = Projectile.builder()
-                .by(this)
-                .type(projectileType)
-                .withMovementSpeed(movementSpeed)
-                .ignoring(this)
-                .create();
-        currentAnimation.whenEnded(() -> {
-            if (projectile != null) {
-                projectile.setX(getX());
-                projectile.setY(getY());
-                projectile.setRotation(getRotation());
-                Projectile.launchProjectile(projectile);
-            }
-        });
-    }
-
-    @Override
-    public void moveUp() {
-        val speed = getYVelocity(false);
-        sprite.translateY(speed);
-        polygon.translate(0, speed);
-    }
-
-    @Override
-    public void moveDown() {
-        val speed = getYVelocity(true);
-        sprite.translateY(speed);
-        polygon.translate(0, speed);
-    }
-
-    @Override
-    public void moveRight() {
-        val speed = getXVelocity(false);
-        sprite.translateX(speed);
-        polygon.translate(speed, 0);
-    }
-
-    @Override
-    public void moveLeft() {
-        val speed = getXVelocity(true);
-        sprite.translateX(speed);
-        polygon.translate(speed, 0);
-    }
-
-    private float getXVelocity(boolean back) {
-        val xVelocity = (back ? -1 : 1) * MOVEMENT_SPEED;
-        val xBound = SpriteContainer.getInstance().getSprite(SpriteFile.BACKGROUND).getWidth() / 2;
-        return getVelocityWithLimitations(xVelocity, getX(), xBound, -xBound);
-    }
-
-    private float getYVelocity(boolean back) {
-        val yVelocity = (back ? -1 : 1) * MOVEMENT_SPEED;
-        val yBound = SpriteContainer.getInstance().getSprite(SpriteFile.BACKGROUND).getHeight() / 2;
-        return getVelocityWithLimitations(yVelocity, getY(), yBound, -yBound);
-    }
-
-    private float getVelocityWithLimitations(float velocity, float dependentVariable, float upperBound, float lowerBound) {
-        val balancingConstant = 50;
-        if (velocity < 0 && dependentVariable <= lowerBound) {
-            velocity = 0;
-        } else if (velocity > 0 && dependentVariable >= upperBound - balancingConstant) {
-            velocity = 0;
-        }
-        return velocity;
-    }
-
-    @Override
+    /**
+     * Gets the respective {@link PlayerAction} for the
+     * {@link com.badlogic.gdx.Input.Keys} value pressed.
+     * @return The key binds defined by {@link Player#bindKeys()}.
+     */
     public Int2ObjectMap<PlayerAction> getKeyBinds() {
         if (keyBinds == null) {
             keyBinds = new Int2ObjectOpenHashMap<>();
@@ -435,10 +239,15 @@ public class Player implements PlayableCharacter {
 
     @Override
     public boolean keyDown(int keycode) {
+        if (keycode == Input.Keys.E) {
+            val pickableObjectNear = getPickableObjectNearest();
+            if (pickableObjectNear != null) {
+                sendPickupItemRequest(pickableObjectNear);
+            }
+        }
         if (getKeyBinds().containsKey(keycode)) {
-            val player = MoribundClient.getInstance().getPlayer();
             val packetDispatcher = MoribundClient.getInstance().getPacketDispatcher();
-            val keyPressedPacket = new KeyPressedPacket(player.getGameId(), player.getPlayerId(), keycode);
+            val keyPressedPacket = new KeyPressedPacket(getGameId(), getPlayerId(), keycode);
             packetDispatcher.sendTCP(keyPressedPacket);
         }
         return true;
@@ -447,9 +256,8 @@ public class Player implements PlayableCharacter {
     @Override
     public boolean keyUp(int keycode) {
         if (getKeyBinds().containsKey(keycode)) {
-            val player = MoribundClient.getInstance().getPlayer();
             val packetDispatcher = MoribundClient.getInstance().getPacketDispatcher();
-            val keyUnpressedPacket = new KeyUnpressedPacket(player.getGameId(), player.getPlayerId(), keycode);
+            val keyUnpressedPacket = new KeyUnpressedPacket(getGameId(), getPlayerId(), keycode);
             packetDispatcher.sendTCP(keyUnpressedPacket);
         }
         return true;
@@ -469,26 +277,138 @@ public class Player implements PlayableCharacter {
                 val slot = inventory.getSlotFromClick(screenX);
                 inventory.click(this, slot);
             } else if (screenX >= 184 && screenX <= 373 && screenY >= 673 && screenY <= 768) {
-                equipment.click(this, screenX);
+                getEquipment().click(this, screenX);
             } else {
-                val mouseClickedPacket = new MouseClickedPacket(gameId, playerId);
+                val sequence = ++clickSequence;
+                predictShot(sequence);
+                val mouseClickedPacket = new MouseClickedPacket(getGameId(), getPlayerId(), sequence);
                 MoribundClient.getInstance().getPacketDispatcher().sendTCP(mouseClickedPacket);
             }
         } else if (button == mouseRightClick) {
             if (screenX >= 374 && screenX <= 849 && screenY >= 673 && screenY <= 768) {
                 val slot = inventory.getSlotFromClick(screenX);
-                val dropItemPacket = new DropItemPacket(gameId, playerId, slot);
+                pendingItemActions.drop(slot, getX(), getY());
+                val dropItemPacket = new DropItemPacket(getGameId(), getPlayerId(), slot);
                 MoribundClient.getInstance().getPacketDispatcher().sendTCP(dropItemPacket);
             }
         }
         return true;
     }
 
+    /**
+     * Starts the shot of the held weapon ahead of the server. The projectile is registered under the negated
+     * sequence number of the click until the server confirms it. Nothing is predicted without a weapon.
+     * @param sequence The sequence number of the click.
+     */
+    private void predictShot(int sequence) {
+        val weapon = getEquippedItemType();
+        if (weapon == null) {
+            return;
+        }
+        val projectileType = weapon.getProjectileType();
+        val projectile = startShot(weapon.getAnimation(), projectileType, projectileType.getPredictedSpeed(),
+                -sequence);
+        if (projectile == null) {
+            return;
+        }
+        val shot = new PredictedShot(projectile, projectile.getBody().getHandle(),
+                MoribundClient.getInstance().getClock().getTick());
+        predictedShots.put(sequence, shot);
+    }
+
+    /**
+     * Reconciles the shot the server launched on a click with the shot predicted on it. The predicted projectile
+     * takes on the unique ID and speed the server gave, and its animation is not played again. A predicted
+     * projectile of another type than the server's, such as after the weapon was switched, is cancelled.
+     * @param sequence The sequence number of the click.
+     * @param projectileType The type of the projectile the server launched.
+     * @param movementSpeed The speed the server launched the projectile at.
+     * @param uniqueProjectileId The unique ID the server assigned to the projectile.
+     * @return If the shot was predicted, in which case the server's shot is not to be played.
+     */
+    public boolean reconcileShot(int sequence, ProjectileType projectileType, int movementSpeed,
+                                 int uniqueProjectileId) {
+        val shot = predictedShots.remove(sequence);
+        if (shot == null) {
+            // the prediction may already have been adopted from the projectile's spawn event
+            return MoribundClient.getInstance().getProjectiles().containsKey(uniqueProjectileId);
+        }
+        val projectile = shot.getProjectile();
+        if (projectile.getBody().getHandle() != shot.getHandle()) {
+            // the predicted projectile is already gone, and the server will despawn its own in turn
+            return true;
+        }
+        if (projectile.getProjectileType() != projectileType) {
+            projectile.removeProjectile();
+            return false;
+        }
+        projectile.confirm(uniqueProjectileId, movementSpeed);
+        return true;
+    }
+
+    /**
+     * Adopts a shot predicted on a click as the projectile the server spawned, for when the server's spawn event
+     * arrives before its answer to the click. The event does not carry the sequence number of the click, so the
+     * oldest prediction of the same type still in play is taken, confirmed under the server's unique ID and
+     * corrected to where the server has it.
+     * @param projectileType The type of the projectile the server spawned.
+     * @param uniqueProjectileId The unique ID the server assigned to the projectile.
+     * @param movementSpeed The speed the server launched the projectile at.
+     * @param x The x-coordinate of the projectile.
+     * @param y The y-coordinate of the projectile.
+     * @param rotation The rotation angle of the projectile.
+     * @return If a prediction was adopted, in which case the server's projectile is not to be made.
+     */
+    public boolean adoptPredictedShot(ProjectileType projectileType, int uniqueProjectileId, float movementSpeed,
+                                      float x, float y, float rotation) {
+        int oldestSequence = 0;
+        PredictedShot oldest = null;
+        for (Int2ObjectMap.Entry<PredictedShot> entry : Int2ObjectMaps.fastIterable(predictedShots)) {
+            val shot = entry.getValue();
+            val projectile = shot.getProjectile();
+            if (projectile.getBody().getHandle() != shot.getHandle()
+                    || projectile.getProjectileType() != projectileType) {
+                continue;
+            }
+            if (oldest == null || entry.getIntKey() < oldestSequence) {
+                oldestSequence = entry.getIntKey();
+                oldest = shot;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        predictedShots.remove(oldestSequence);
+        val projectile = oldest.getProjectile();
+        projectile.confirm(uniqueProjectileId, movementSpeed);
+        projectile.correct(x, y, rotation);
+        return true;
+    }
+
+    /**
+     * Cancels the predicted shots the server has not answered within {@link Player#PREDICTION_TIMEOUT_TICKS}, as
+     * the server turned the click down.
+     */
+    private void cancelStalePredictions() {
+        val tick = MoribundClient.getInstance().getClock().getTick();
+        val iterator = predictedShots.values().iterator();
+        while (iterator.hasNext()) {
+            val shot = iterator.next();
+            if (tick - shot.getTick() < PREDICTION_TIMEOUT_TICKS) {
+                continue;
+            }
+            iterator.remove();
+            if (shot.getProjectile().getBody().getHandle() == shot.getHandle()) {
+                shot.getProjectile().removeProjectile();
+            }
+        }
+    }
+
     @Override
-    public void collide(Projectile projectile) {
-        projectile.removeProjectile();
-        MoribundClient.getInstance().getPacketDispatcher().sendTCP(
-                new ProjectileCollisionPacket(gameId, playerId, projectile.getSource().getPlayerId(), projectile.getProjectileType().getId()));
+    public void processFlags() {
+        super.processFlags();
+        cancelStalePredictions();
+        pendingItemActions.rollBackStale(MoribundClient.getInstance().getClock().getTick());
     }
 
     @Override
@@ -511,23 +431,25 @@ public class Player implements PlayableCharacter {
         return false;
     }
 
-    @Override
+    /**
+     * Faces the player at a given world space point.
+     * @param location The world space point to face.
+     * @see com.badlogic.gdx.graphics.Camera#unproject(Vector3)
+     */
     public void faceLocation(Vector3 location) {
         float angle = (float) ((Math.atan2 (getX() - location.x, - (getY() - location.y)) * 180.0d / Math.PI) + 90.0f);
         setRotation(angle);
     }
 
-    @Override
     public void updateLocation() {
         val packetDispatcher = MoribundClient.getInstance().getPacketDispatcher();
-        val tilePacket = new LocationPacket(gameId, playerId, getX(), getY());
+        val tilePacket = new LocationPacket(getGameId(), getPlayerId(), getX(), getY());
         packetDispatcher.sendUDP(tilePacket);
     }
 
-    @Override
     public void updateRotation() {
         val packetDispatcher = MoribundClient.getInstance().getPacketDispatcher();
-        val rotationPacket = new RotationPacket(gameId, playerId, getRotation());
+        val rotationPacket = new RotationPacket(getGameId(), getPlayerId(), getRotation());
         packetDispatcher.sendUDP(rotationPacket);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.github.moribund.objects.playable.players;
+
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
+import lombok.Value;
+
+/**
+ * A shot the {@link Player} launched on a click ahead of the server, awaiting the server's
+ * {@link com.github.moribund.net.packets.graphics.AnimationProjectilePacket} for the same click.
+ */
+@Value
+class PredictedShot {
+
+    /**
+     * The predicted projectile.
+     */
+    private Projectile projectile;
+
+    /**
+     * The handle of the {@link PredictedShot#projectile} when it was predicted, as it may have been removed and
+     * reused from its pool by the time the server answers.
+     */
+    private int handle;
+
+    /**
+     * The tick the shot was predicted at.
+     */
+    private long tick;
+}
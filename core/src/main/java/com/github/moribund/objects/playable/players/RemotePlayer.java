@@ -0,0 +1,22 @@
+package com.github.moribund.objects.playable.players;
+
+import com.github.moribund.objects.playable.players.containers.ItemContainer;
+
+/**
+ * A {@code RemotePlayer} is a {@link PlayableCharacter} controlled by another client. It only carries what is needed
+ * to draw it, collide with it and show its health: its inventory is never held, and its equipment is kept in a plain
+ * {@link ItemContainer} with no UI, as it only decides the appearance of the player.
+ */
+public final class RemotePlayer extends AbstractPlayableCharacter {
+
+    /**
+     * Makes a {@code RemotePlayer}.
+     * @param gameId The ID of the game the player is in.
+     * @param playerId The unique player ID.
+     * @param username The username of the player.
+     * @param maxHitpoints The maximum hitpoints of the player.
+     */
+    public RemotePlayer(int gameId, int playerId, String username, int maxHitpoints) {
+        super(gameId, playerId, username, maxHitpoints, new ItemContainer());
+    }
+}
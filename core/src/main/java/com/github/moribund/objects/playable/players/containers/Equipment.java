@@ -8,7 +8,7 @@ import com.github.moribund.graphics.drawables.DrawableUIAsset;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.net.packets.items.UnequipItemPacket;
-import com.github.moribund.objects.playable.players.PlayableCharacter;
+import com.github.moribund.objects.playable.players.Player;
 import lombok.val;
 
 /**
@@ -19,7 +19,7 @@ public class Equipment extends ItemContainer implements DrawableUIAsset {
     /**
      * The capacity of the slots in the equipment.
      */
-    private static final int SLOTS = 2;
+    static final int SLOTS = 2;
 
     /**
      * The sprite of a single equipment background.
@@ -58,9 +58,7 @@ public class Equipment extends ItemContainer implements DrawableUIAsset {
         for (Sprite sprite : slots) {
             sprite.draw(batch);
         }
-        for (int i = 0; i < items.size(); i++) {
-            items.get(i).draw(i, Gdx.graphics.getWidth() - (singularSprite.getWidth() * (Inventory.SLOTS + SLOTS)), batch);
-        }
+        drawItems(Gdx.graphics.getWidth() - (singularSprite.getWidth() * (Inventory.SLOTS + SLOTS)), batch);
     }
 
     /**
@@ -69,7 +67,7 @@ public class Equipment extends ItemContainer implements DrawableUIAsset {
      * @param screenX The x-coordinate of where the equipment was clicked.
      * @implNote This method assumes the y-coordinate of the equipment interface has been checked.
      */
-    public void click(PlayableCharacter player, int screenX) {
+    public void click(Player player, int screenX) {
         val increment = 95;
         val startingXLeft = 184;
         val startingXRight = startingXLeft + increment;
@@ -82,11 +80,12 @@ public class Equipment extends ItemContainer implements DrawableUIAsset {
     }
 
     /**
-     * Sends the unequip item packet.
+     * Sends the unequip item packet, unequipping the item ahead of the server.
      * @param player The player that is unequipping the item.
      * @param slot The slot of the equipment being unequipped.
      */
-    private void sendUnequipItemPacket(PlayableCharacter player, int slot) {
+    private void sendUnequipItemPacket(Player player, int slot) {
+        player.getPendingItemActions().unequip(slot);
         val unequipItemPacket = new UnequipItemPacket(player.getGameId(), player.getPlayerId(), slot);
         MoribundClient.getInstance().getPacketDispatcher().sendTCP(unequipItemPacket);
     }
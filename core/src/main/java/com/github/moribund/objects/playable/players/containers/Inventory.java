@@ -10,6 +10,7 @@ import com.github.moribund.graphics.sprites.SpriteFile;
 import com.github.moribund.net.packets.items.EquipItemPacket;
 import com.github.moribund.net.packets.items.ItemOnItemPacket;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
+import com.github.moribund.objects.playable.players.Player;
 import lombok.val;
 
 /**
@@ -76,9 +77,7 @@ public class Inventory extends ItemContainer implements DrawableUIAsset {
         for (Sprite sprite : slots) {
             sprite.draw(batch);
         }
-        for (int i = 0; i < items.size(); i++) {
-            items.get(i).draw(i, Gdx.graphics.getWidth() - (singularSprite.getWidth() * SLOTS), batch);
-        }
+        drawItems(Gdx.graphics.getWidth() - (singularSprite.getWidth() * SLOTS), batch);
     }
 
     /**
@@ -87,7 +86,7 @@ public class Inventory extends ItemContainer implements DrawableUIAsset {
      * @param slot The slot that was clicked.
      * @implNote This method assumes the y-coordinate of the inventory interface has been checked.
      */
-    public void click(PlayableCharacter player, int slot) {
+    public void click(Player player, int slot) {
         if (slot != -1) {
             if (!itemSelected) {
                 itemSelected = true;
@@ -121,10 +120,11 @@ public class Inventory extends ItemContainer implements DrawableUIAsset {
     }
 
     /**
-     * Sends the equip item packet.
+     * Sends the equip item packet, equipping the item ahead of the server.
      * @param player The player that is equipping the item.
      */
-    private void sendEquipItemPacket(PlayableCharacter player) {
+    private void sendEquipItemPacket(Player player) {
+        player.getPendingItemActions().equip(slotSelected1);
         val equipItemPacket = new EquipItemPacket(player.getGameId(), player.getPlayerId(), slotSelected1);
         MoribundClient.getInstance().getPacketDispatcher().sendTCP(equipItemPacket);
     }
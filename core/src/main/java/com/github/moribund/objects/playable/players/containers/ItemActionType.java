@@ -0,0 +1,24 @@
+package com.github.moribund.objects.playable.players.containers;
+
+/**
+ * The types of item action the local {@link com.github.moribund.objects.playable.players.Player} applies ahead of
+ * the server, see {@link PendingItemActions}.
+ */
+enum ItemActionType {
+    /**
+     * An item moved from the inventory to the equipment.
+     */
+    EQUIP,
+    /**
+     * An item moved from the equipment to the inventory.
+     */
+    UNEQUIP,
+    /**
+     * An item moved from the inventory to the ground.
+     */
+    DROP,
+    /**
+     * An item moved from the ground to the inventory.
+     */
+    PICKUP
+}
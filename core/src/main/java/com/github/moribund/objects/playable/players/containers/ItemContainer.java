@@ -1,15 +1,26 @@
 package com.github.moribund.objects.playable.players.containers;
 
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.github.moribund.objects.nonplayable.items.Item;
 import com.github.moribund.objects.nonplayable.items.ItemType;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.Getter;
+import lombok.val;
+
+import java.util.Arrays;
 
 /**
- * An {@code ItemContainer} is a class that contains an {@link ObjectList<Item>}.
+ * An {@code ItemContainer} is a class that contains {@link Item}s. The contents are kept as the item IDs of each
+ * slot, which the item IDs of every update are diffed against: only when they differ are the {@link Item}s, which
+ * are the shared flyweights of their types, replaced and the {@link ItemContainerListener}s notified.
+ *
+ * <p>
+ * A plain {@code ItemContainer} has no UI, and holds the equipment of a
+ * {@link com.github.moribund.objects.playable.players.RemotePlayer}.
  */
-public abstract class ItemContainer {
+public class ItemContainer {
 
     /**
      * The list of items that are being contained.
@@ -17,8 +28,44 @@ public abstract class ItemContainer {
     @Getter
     final ObjectList<Item> items;
 
-    ItemContainer() {
+    /**
+     * The item ID in each slot.
+     */
+    private int[] itemIds;
+
+    /**
+     * The amount of slots holding an item.
+     */
+    private int size;
+
+    /**
+     * The listeners notified when the contents change.
+     */
+    private final ObjectList<ItemContainerListener> listeners;
+
+    /**
+     * The sprites of the items as drawn in their slots, only recreated once the contents change.
+     */
+    private Sprite[] itemSprites;
+
+    /**
+     * Whether the contents changed since the {@link ItemContainer#itemSprites} were created.
+     */
+    private boolean itemSpritesStale;
+
+    public ItemContainer() {
         items = new ObjectArrayList<>();
+        itemIds = new int[0];
+        listeners = new ObjectArrayList<>();
+        itemSprites = new Sprite[0];
+    }
+
+    /**
+     * Adds a listener to notify whenever the contents change.
+     * @param listener The listener.
+     */
+    public void addListener(ItemContainerListener listener) {
+        listeners.add(listener);
     }
 
     /**
@@ -26,9 +73,148 @@ public abstract class ItemContainer {
      * @param itemIds The item IDs to make {@link Item}s out of.
      */
     public void setItemIds(ObjectList<Integer> itemIds) {
+        if (!differs(itemIds)) {
+            return;
+        }
+        ensureCapacity(itemIds.size());
+        size = itemIds.size();
+        for (int i = 0; i < size; i++) {
+            this.itemIds[i] = itemIds.get(i);
+        }
+        rebuildItems();
+        notifyListeners();
+    }
+
+    /**
+     * Sets the {@link Item}s using a buffer of item IDs.
+     * @param itemIds The buffer of item IDs to make {@link Item}s out of.
+     * @param length The amount of item IDs in the buffer.
+     */
+    public void setItemIds(int[] itemIds, int length) {
+        if (!differs(itemIds, length)) {
+            return;
+        }
+        ensureCapacity(length);
+        size = length;
+        System.arraycopy(itemIds, 0, this.itemIds, 0, length);
+        rebuildItems();
+        notifyListeners();
+    }
+
+    /**
+     * Checks whether a list of item IDs differs from the contents.
+     * @param itemIds The item IDs.
+     * @return If the item IDs differ from the contents.
+     */
+    private boolean differs(ObjectList<Integer> itemIds) {
+        if (itemIds.size() != size) {
+            return true;
+        }
+        for (int i = 0; i < size; i++) {
+            if (itemIds.get(i) != this.itemIds[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a buffer of item IDs differs from the contents.
+     * @param itemIds The buffer of item IDs.
+     * @param length The amount of item IDs in the buffer.
+     * @return If the item IDs differ from the contents.
+     */
+    private boolean differs(int[] itemIds, int length) {
+        if (length != size) {
+            return true;
+        }
+        for (int i = 0; i < size; i++) {
+            if (itemIds[i] != this.itemIds[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Grows the slot array should it be too small to hold an amount of item IDs.
+     * @param capacity The amount of item IDs to hold.
+     */
+    private void ensureCapacity(int capacity) {
+        if (itemIds.length < capacity) {
+            itemIds = Arrays.copyOf(itemIds, capacity);
+        }
+    }
+
+    /**
+     * Replaces the {@link ItemContainer#items} with the shared {@link Item}s of the item IDs in the slots.
+     */
+    private void rebuildItems() {
         items.clear();
-        for (int itemId : itemIds) {
-            items.add(new Item(ItemType.getItemType(itemId)));
+        for (int i = 0; i < size; i++) {
+            items.add(Item.of(ItemType.getItemType(itemIds[i])));
+        }
+    }
+
+    /**
+     * Notifies the listeners that the contents changed.
+     */
+    private void notifyListeners() {
+        itemSpritesStale = true;
+        for (ItemContainerListener listener : listeners) {
+            listener.itemsChanged(this);
+        }
+    }
+
+    /**
+     * Gets the amount of slots holding an item.
+     * @return The amount of items.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the item ID in a slot.
+     * @param slot The slot.
+     * @return The item ID.
+     */
+    public int getItemId(int slot) {
+        return itemIds[slot];
+    }
+
+    /**
+     * Draws the items in their slots, recreating their sprites only should the contents have changed since they
+     * were last drawn.
+     * @param startingX The starting X coordinate to start drawing the items from.
+     * @param batch The batch to draw the items to.
+     */
+    void drawItems(float startingX, Batch batch) {
+        if (itemSpritesStale) {
+            itemSpritesStale = false;
+            itemSprites = createItemSprites(startingX);
+        }
+        for (Sprite sprite : itemSprites) {
+            if (sprite != null) {
+                sprite.draw(batch);
+            }
+        }
+    }
+
+    /**
+     * Creates the sprites of the items as drawn in the slots of the container, or {@code null} for a slot holding an
+     * unknown item.
+     * @param startingX The starting X coordinate to start drawing the items from.
+     * @return The sprites of the items, indexed by slot.
+     */
+    private Sprite[] createItemSprites(float startingX) {
+        val sprites = new Sprite[size];
+        for (int i = 0; i < size; i++) {
+            val item = items.get(i);
+            if (item != null) {
+                sprites[i] = item.createSprite(i, startingX);
+            }
         }
+        return sprites;
     }
 }
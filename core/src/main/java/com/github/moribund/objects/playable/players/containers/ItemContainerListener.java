@@ -0,0 +1,14 @@
+package com.github.moribund.objects.playable.players.containers;
+
+/**
+ * An {@code ItemContainerListener} is notified whenever the contents of an {@link ItemContainer} actually change.
+ */
+@FunctionalInterface
+public interface ItemContainerListener {
+
+    /**
+     * What to do when the contents of a container have changed.
+     * @param container The container that changed.
+     */
+    void itemsChanged(ItemContainer container);
+}
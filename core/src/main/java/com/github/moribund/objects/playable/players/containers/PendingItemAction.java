@@ -0,0 +1,70 @@
+package com.github.moribund.objects.playable.players.containers;
+
+import com.github.moribund.objects.nonplayable.items.GroundItem;
+
+/**
+ * An item action applied ahead of the server that the server has not yet acknowledged, see
+ * {@link PendingItemActions}.
+ */
+final class PendingItemAction {
+
+    /**
+     * The type of the action.
+     */
+    final ItemActionType type;
+
+    /**
+     * The item ID of the item the action moves.
+     */
+    final int itemId;
+
+    /**
+     * The tick the action was applied at.
+     */
+    final long tick;
+
+    /**
+     * The amount of the item in the server's inventory when the action was applied.
+     */
+    final int inventoryCount;
+
+    /**
+     * The amount of the item in the server's equipment when the action was applied.
+     */
+    final int equipmentCount;
+
+    /**
+     * The ground item picked up, or the ground item predicted to be dropped, or {@code null} for an action not
+     * involving the ground.
+     */
+    final GroundItem groundItem;
+
+    /**
+     * Whether the server's inventory and equipment show the action.
+     */
+    boolean containersAcknowledged;
+
+    /**
+     * Whether the server has removed the ground item picked up, or sent the ground item dropped.
+     */
+    boolean groundAcknowledged;
+
+    PendingItemAction(ItemActionType type, int itemId, long tick, int inventoryCount, int equipmentCount,
+                      GroundItem groundItem) {
+        this.type = type;
+        this.itemId = itemId;
+        this.tick = tick;
+        this.inventoryCount = inventoryCount;
+        this.equipmentCount = equipmentCount;
+        this.groundItem = groundItem;
+        groundAcknowledged = groundItem == null;
+    }
+
+    /**
+     * Checks whether the server has acknowledged every part of the action.
+     * @return If the action is acknowledged.
+     */
+    boolean isAcknowledged() {
+        return containersAcknowledged && groundAcknowledged;
+    }
+}
@@ -0,0 +1,403 @@
+package com.github.moribund.objects.playable.players.containers;
+
+import com.github.moribund.MoribundClient;
+import com.github.moribund.objects.nonplayable.items.GroundItem;
+import com.github.moribund.objects.nonplayable.items.ItemType;
+import com.github.moribund.simulation.GameClock;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code PendingItemActions} are the log of the item actions of the local
+ * {@link com.github.moribund.objects.playable.players.Player} that were applied to its {@link Inventory},
+ * {@link Equipment} and the ground items at once, rather than after the round trip to the server.
+ *
+ * <p>
+ * The contents last sent by the server are kept apart from the contents shown. Every snapshot replaces the
+ * server's contents, acknowledges the actions it shows and then shows the server's contents with the actions still
+ * pending applied on top, so a snapshot sent before the server handled an action does not undo it. An action the
+ * server has not acknowledged within {@link PendingItemActions#ACKNOWLEDGEMENT_TIMEOUT_TICKS} was turned down and is
+ * rolled back: it is no longer applied on top of the server's contents, and a ground item it took or made is put
+ * back or taken away.
+ */
+public final class PendingItemActions {
+
+    /**
+     * The amount of ticks an action waits for the server to acknowledge it before it is rolled back.
+     */
+    private static final int ACKNOWLEDGEMENT_TIMEOUT_TICKS = GameClock.TICK_RATE;
+
+    /**
+     * The inventory the actions are applied to.
+     */
+    private final Inventory inventory;
+
+    /**
+     * The equipment the actions are applied to.
+     */
+    private final Equipment equipment;
+
+    /**
+     * The actions not yet acknowledged, oldest first.
+     */
+    private final ObjectList<PendingItemAction> actions;
+
+    /**
+     * The item IDs of the inventory as last sent by the server.
+     */
+    private int[] serverInventory;
+
+    /**
+     * The amount of item IDs in {@link PendingItemActions#serverInventory}.
+     */
+    private int serverInventorySize;
+
+    /**
+     * The item IDs of the equipment as last sent by the server.
+     */
+    private int[] serverEquipment;
+
+    /**
+     * The amount of item IDs in {@link PendingItemActions#serverEquipment}.
+     */
+    private int serverEquipmentSize;
+
+    /**
+     * The reused buffer the inventory shown is built in.
+     */
+    private int[] shownInventory;
+
+    /**
+     * The reused buffer the equipment shown is built in.
+     */
+    private int[] shownEquipment;
+
+    /**
+     * Makes an empty log for a player's containers.
+     * @param inventory The inventory of the player.
+     * @param equipment The equipment of the player.
+     */
+    public PendingItemActions(Inventory inventory, Equipment equipment) {
+        this.inventory = inventory;
+        this.equipment = equipment;
+        actions = new ObjectArrayList<>();
+        serverInventory = new int[Inventory.SLOTS];
+        serverEquipment = new int[Equipment.SLOTS];
+        shownInventory = new int[Inventory.SLOTS];
+        shownEquipment = new int[Equipment.SLOTS];
+    }
+
+    /**
+     * Moves the item in an inventory slot to the equipment. Nothing is applied should the equipment be full, as it
+     * is up to the server which item is swapped out.
+     * @param slot The inventory slot.
+     */
+    public void equip(int slot) {
+        if (slot < 0 || slot >= inventory.size() || equipment.size() >= Equipment.SLOTS) {
+            return;
+        }
+        apply(ItemActionType.EQUIP, inventory.getItemId(slot), null);
+    }
+
+    /**
+     * Moves the item in an equipment slot to the inventory. Nothing is applied should the inventory be full.
+     * @param slot The equipment slot.
+     */
+    public void unequip(int slot) {
+        if (slot < 0 || slot >= equipment.size() || inventory.size() >= Inventory.SLOTS) {
+            return;
+        }
+        apply(ItemActionType.UNEQUIP, equipment.getItemId(slot), null);
+    }
+
+    /**
+     * Moves the item in an inventory slot to the ground.
+     * @param slot The inventory slot.
+     * @param x The x-coordinate the item is dropped at.
+     * @param y The y-coordinate the item is dropped at.
+     */
+    public void drop(int slot, float x, float y) {
+        if (slot < 0 || slot >= inventory.size()) {
+            return;
+        }
+        val itemId = inventory.getItemId(slot);
+        val itemType = ItemType.getItemType(itemId);
+        GroundItem groundItem = null;
+        if (itemType != null) {
+            groundItem = new GroundItem(itemType, x, y);
+            GroundItem.addGroundItem(groundItem);
+        }
+        apply(ItemActionType.DROP, itemId, groundItem);
+    }
+
+    /**
+     * Moves a ground item to the inventory. Nothing is applied should the inventory be full.
+     * @param groundItem The ground item.
+     */
+    public void pickup(GroundItem groundItem) {
+        if (inventory.size() >= Inventory.SLOTS) {
+            return;
+        }
+        GroundItem.removeGroundItem(groundItem);
+        apply(ItemActionType.PICKUP, groundItem.getItemType().getId(), groundItem);
+    }
+
+    /**
+     * Logs an action and shows it.
+     * @param type The type of the action.
+     * @param itemId The item ID of the item moved.
+     * @param groundItem The ground item involved, if any.
+     */
+    private void apply(ItemActionType type, int itemId, GroundItem groundItem) {
+        val tick = MoribundClient.getInstance().getClock().getTick();
+        actions.add(new PendingItemAction(type, itemId, tick, count(serverInventory, serverInventorySize, itemId),
+                count(serverEquipment, serverEquipmentSize, itemId), groundItem));
+        show();
+    }
+
+    /**
+     * Takes in the contents the server sent.
+     * @param inventoryItems The inventory item IDs.
+     * @param equipmentItems The equipment item IDs.
+     */
+    public void serverStateReceived(ObjectList<Integer> inventoryItems, ObjectList<Integer> equipmentItems) {
+        serverInventory = copy(inventoryItems, serverInventory);
+        serverInventorySize = inventoryItems.size();
+        serverEquipment = copy(equipmentItems, serverEquipment);
+        serverEquipmentSize = equipmentItems.size();
+        acknowledge();
+    }
+
+    /**
+     * Takes in the contents the server sent.
+     * @param inventoryItems The buffer of inventory item IDs.
+     * @param inventorySize The amount of item IDs in {@code inventoryItems}.
+     * @param equipmentItems The buffer of equipment item IDs.
+     * @param equipmentSize The amount of item IDs in {@code equipmentItems}.
+     */
+    public void serverStateReceived(int[] inventoryItems, int inventorySize, int[] equipmentItems,
+                                    int equipmentSize) {
+        serverInventory = copy(inventoryItems, inventorySize, serverInventory);
+        serverInventorySize = inventorySize;
+        serverEquipment = copy(equipmentItems, equipmentSize, serverEquipment);
+        serverEquipmentSize = equipmentSize;
+        acknowledge();
+    }
+
+    /**
+     * Acknowledges the actions the server's contents show, then shows the contents.
+     */
+    private void acknowledge() {
+        val iterator = actions.iterator();
+        while (iterator.hasNext()) {
+            val action = iterator.next();
+            if (!action.containersAcknowledged && isShownByServer(action)) {
+                action.containersAcknowledged = true;
+                if (action.type == ItemActionType.PICKUP) {
+                    // the server holding the item means it took it off the ground
+                    action.groundAcknowledged = true;
+                }
+            }
+            if (action.isAcknowledged()) {
+                iterator.remove();
+            }
+        }
+        show();
+    }
+
+    /**
+     * Checks whether the server's contents show an action, by the amount of its item having moved in the direction
+     * of the action since it was applied.
+     * @param action The action.
+     * @return If the server's contents show the action.
+     */
+    private boolean isShownByServer(PendingItemAction action) {
+        val inventoryCount = count(serverInventory, serverInventorySize, action.itemId);
+        val equipmentCount = count(serverEquipment, serverEquipmentSize, action.itemId);
+        switch (action.type) {
+            case EQUIP:
+                return inventoryCount < action.inventoryCount || equipmentCount > action.equipmentCount;
+            case UNEQUIP:
+                return equipmentCount < action.equipmentCount;
+            case DROP:
+                return inventoryCount < action.inventoryCount;
+            case PICKUP:
+                return inventoryCount > action.inventoryCount;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Notes that the server removed a ground item, so that a pending pickup of it is never rolled back onto the
+     * ground, whoever picked it up.
+     * @param itemId The item ID of the ground item.
+     * @param x The x-coordinate of the ground item.
+     * @param y The y-coordinate of the ground item.
+     */
+    public void groundItemRemoved(int itemId, float x, float y) {
+        for (PendingItemAction action : actions) {
+            if (action.type == ItemActionType.PICKUP && action.groundItem.matches(itemId, x, y)) {
+                action.groundAcknowledged = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Claims a ground item the server sent for a pending drop of the same item, removing the ground item the drop
+     * predicted so the server's takes its place.
+     * @param itemId The item ID of the ground item the server sent.
+     */
+    public void claimDroppedItem(int itemId) {
+        for (PendingItemAction action : actions) {
+            if (action.type == ItemActionType.DROP && !action.groundAcknowledged && action.itemId == itemId) {
+                action.groundAcknowledged = true;
+                GroundItem.removeGroundItem(action.groundItem);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rolls back the actions the server has not acknowledged within
+     * {@link PendingItemActions#ACKNOWLEDGEMENT_TIMEOUT_TICKS}.
+     * @param tick The current tick.
+     */
+    public void rollBackStale(long tick) {
+        boolean rolledBack = false;
+        val iterator = actions.iterator();
+        while (iterator.hasNext()) {
+            val action = iterator.next();
+            if (tick - action.tick < ACKNOWLEDGEMENT_TIMEOUT_TICKS) {
+                continue;
+            }
+            iterator.remove();
+            rolledBack = true;
+            if (!action.groundAcknowledged) {
+                if (action.type == ItemActionType.PICKUP) {
+                    GroundItem.addGroundItem(action.groundItem);
+                } else if (action.type == ItemActionType.DROP) {
+                    GroundItem.removeGroundItem(action.groundItem);
+                }
+            }
+        }
+        if (rolledBack) {
+            show();
+        }
+    }
+
+    /**
+     * Shows the server's contents with the actions the server's contents do not yet show applied on top.
+     */
+    private void show() {
+        val capacity = serverInventorySize + serverEquipmentSize + actions.size();
+        if (shownInventory.length < capacity) {
+            shownInventory = new int[capacity];
+            shownEquipment = new int[capacity];
+        }
+        System.arraycopy(serverInventory, 0, shownInventory, 0, serverInventorySize);
+        System.arraycopy(serverEquipment, 0, shownEquipment, 0, serverEquipmentSize);
+        int inventorySize = serverInventorySize;
+        int equipmentSize = serverEquipmentSize;
+        for (PendingItemAction action : actions) {
+            if (action.containersAcknowledged) {
+                continue;
+            }
+            switch (action.type) {
+                case EQUIP:
+                    if (equipmentSize < Equipment.SLOTS && remove(shownInventory, inventorySize, action.itemId)) {
+                        inventorySize--;
+                        shownEquipment[equipmentSize++] = action.itemId;
+                    }
+                    break;
+                case UNEQUIP:
+                    if (inventorySize < Inventory.SLOTS && remove(shownEquipment, equipmentSize, action.itemId)) {
+                        equipmentSize--;
+                        shownInventory[inventorySize++] = action.itemId;
+                    }
+                    break;
+                case DROP:
+                    if (remove(shownInventory, inventorySize, action.itemId)) {
+                        inventorySize--;
+                    }
+                    break;
+                case PICKUP:
+                    if (inventorySize < Inventory.SLOTS) {
+                        shownInventory[inventorySize++] = action.itemId;
+                    }
+                    break;
+            }
+        }
+        inventory.setItemIds(shownInventory, inventorySize);
+        equipment.setItemIds(shownEquipment, equipmentSize);
+    }
+
+    /**
+     * Counts the slots holding an item.
+     * @param itemIds The buffer of item IDs.
+     * @param size The amount of item IDs in the buffer.
+     * @param itemId The item ID to count.
+     * @return The amount of slots holding the item.
+     */
+    private static int count(int[] itemIds, int size, int itemId) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (itemIds[i] == itemId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes the first slot holding an item, shifting the slots after it down.
+     * @param itemIds The buffer of item IDs.
+     * @param size The amount of item IDs in the buffer.
+     * @param itemId The item ID to remove.
+     * @return If a slot held the item.
+     */
+    private static boolean remove(int[] itemIds, int size, int itemId) {
+        for (int i = 0; i < size; i++) {
+            if (itemIds[i] == itemId) {
+                System.arraycopy(itemIds, i + 1, itemIds, i, size - i - 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies a list of item IDs into a buffer, growing the buffer should it be too small.
+     * @param itemIds The item IDs.
+     * @param buffer The buffer.
+     * @return The buffer the item IDs were copied into.
+     */
+    private static int[] copy(ObjectList<Integer> itemIds, int[] buffer) {
+        if (buffer.length < itemIds.size()) {
+            buffer = new int[itemIds.size()];
+        }
+        for (int i = 0; i < itemIds.size(); i++) {
+            buffer[i] = itemIds.get(i);
+        }
+        return buffer;
+    }
+
+    /**
+     * Copies a buffer of item IDs into another, growing the other should it be too small.
+     * @param itemIds The buffer of item IDs.
+     * @param size The amount of item IDs in {@code itemIds}.
+     * @param buffer The buffer to copy into.
+     * @return The buffer the item IDs were copied into.
+     */
+    private static int[] copy(int[] itemIds, int size, int[] buffer) {
+        if (buffer.length < size) {
+            buffer = Arrays.copyOf(buffer, size);
+        }
+        System.arraycopy(itemIds, 0, buffer, 0, size);
+        return buffer;
+    }
+}
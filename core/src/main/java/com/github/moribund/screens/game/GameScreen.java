@@ -11,9 +11,18 @@ import com.github.moribund.MoribundClient;
 import com.github.moribund.graphics.drawables.DrawableGameAsset;
 import com.github.moribund.graphics.sprites.SpriteContainer;
 import com.github.moribund.graphics.sprites.SpriteFile;
+import com.github.moribund.net.packets.game.GameStatePacket;
 import com.github.moribund.objects.attributes.Flaggable;
+import com.github.moribund.objects.nonplayable.items.GroundItem;
+import com.github.moribund.objects.nonplayable.projectile.Projectile;
+import com.github.moribund.objects.nonplayable.projectile.ProjectileUpdater;
 import com.github.moribund.objects.playable.players.PlayableCharacter;
+import com.github.moribund.objects.playable.players.Player;
+import com.github.moribund.simulation.SpatialGrid;
+import com.github.moribund.simulation.UpdateTier;
 import com.github.moribund.utils.GLUtils;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
 import lombok.val;
 
 /**
@@ -35,6 +44,22 @@ class GameScreen implements Screen {
      */
     private final Sprite background;
 
+    /**
+     * The {@link Projectile}s processed this tick, which are handed to the {@link ProjectileUpdater} together.
+     */
+    private final ObjectList<Projectile> tickProjectiles;
+
+    /**
+     * How far beyond the view of the camera entities are still stepped every tick, which covers the largest sprite
+     * and the distance a {@link UpdateTier#REDUCED} projectile can travel between its steps.
+     */
+    private static final float FULL_UPDATE_MARGIN = 256;
+
+    /**
+     * The {@link DrawableGameAsset}s within view this frame, reused between frames.
+     */
+    private final ObjectList<DrawableGameAsset> visibleAssets;
+
     /**
      * The previous screen X coordinate registered.
      */
@@ -56,6 +81,8 @@ class GameScreen implements Screen {
         this.gameBatch = gameSpritebatch;
         this.camera = camera;
         this.background = background;
+        tickProjectiles = new ObjectArrayList<>();
+        visibleAssets = new ObjectArrayList<>();
     }
 
     /**
@@ -70,19 +97,29 @@ class GameScreen implements Screen {
      * Renders the {@link Screen} by clearing the GL and drawing the sprites.
      * Essentially, this is the heart of the game's {@link com.badlogic.gdx.graphics.g2d.Sprite}s.
      *
-     * @param delta As of now, unclassified usage.
+     * The simulation is advanced in fixed ticks by the {@link com.github.moribund.simulation.GameClock}, so
+     * that game speed does not depend on the frame rate. The entities spawned and despawned since the last frame are
+     * applied first, see {@link com.github.moribund.simulation.EntityCommandBuffer}.
+     *
+     * @param delta The time in seconds since the last render, unused as the clock reads its own time so that it
+     *              can be paused and scaled.
      */
     @Override
     public void render(float delta) {
-        processFlags();
+        MoribundClient.getInstance().getEntityCommands().flush();
+        MoribundClient.getInstance().getClock().advance(this::processFlags);
         GLUtils.clearGL();
         drawGameSpriteBatch(this::drawBackground, this::drawVisibleEntities);
+        MoribundClient.getInstance().getClock().frameDrawn();
         drawUISpriteBatch(this::drawUI);
         cameraFollowPlayer();
         playerFollowMouse();
 
+        val rateController = MoribundClient.getInstance().getRateController();
+        rateController.update();
+        MoribundClient.getInstance().getGroundItemDigest().update();
         val player = MoribundClient.getInstance().getPlayer();
-        if (player != null) {
+        if (player != null && rateController.isMovementDue()) {
             player.updateRotation();
             player.updateLocation();
         }
@@ -90,13 +127,13 @@ class GameScreen implements Screen {
 
     /**
      * Makes the player face the location of the mouse, with the mouse's location given in world space coordinates.
-     * The {@link PlayableCharacter#faceLocation(Vector3)} method is only called if the mouse cursor is on a unique
+     * The {@link Player#faceLocation(Vector3)} method is only called if the mouse cursor is on a unique
      * location since the last render.
      * @see Camera#unproject(Vector3)
-     * @see PlayableCharacter#faceLocation(Vector3)
+     * @see Player#faceLocation(Vector3)
      */
     private void playerFollowMouse() {
-        PlayableCharacter player = MoribundClient.getInstance().getPlayer();
+        Player player = MoribundClient.getInstance().getPlayer();
         if (player != null) {
             if (Gdx.input.getX() == previousX && Gdx.input.getY() == previousY) {
                 return;
@@ -140,7 +177,7 @@ class GameScreen implements Screen {
      * @return The optimal x-position for the camera.
      */
     private float getCameraPositionX(PlayableCharacter player) {
-        val playerX = player.getX();
+        val playerX = player.getRenderX();
         val balancingConstant = 500;
         val furthestLeftBound = -(background.getWidth() / 2) + balancingConstant;
         val furthestRightBound = background.getWidth() / 2 - balancingConstant;
@@ -159,7 +196,7 @@ class GameScreen implements Screen {
      * @return The optimal y-position for the camera.
      */
     private float getCameraPositionY(PlayableCharacter player) {
-        val playerY = player.getY();
+        val playerY = player.getRenderY();
         val balancingConstant = 350;
         val furthestLowerBound = -(background.getHeight() / 2) + balancingConstant;
         val furthestUpperBound = background.getHeight() / 2 - balancingConstant;
@@ -173,18 +210,127 @@ class GameScreen implements Screen {
     }
 
     /**
-     * Draws all the {@link DrawableGameAsset}'s
-     * {@link com.badlogic.gdx.graphics.g2d.Sprite}s.
+     * Draws the {@link com.badlogic.gdx.graphics.g2d.Sprite}s of the {@link DrawableGameAsset}s within view of the
+     * camera: the ground items first, then the players, then the projectiles on top.
      */
     private void drawVisibleEntities() {
-        MoribundClient.getInstance().getDrawableGameAssets().forEach(drawable -> drawable.draw(gameBatch));
+        val client = MoribundClient.getInstance();
+        drawVisible(client.getGroundItemGrid());
+        drawVisible(client.getPlayerGrid());
+        drawVisible(client.getProjectileGrid());
     }
 
     /**
-     * Processes all flaggables.
+     * Draws the {@link DrawableGameAsset}s of a {@link SpatialGrid} within view of the camera.
+     * @param grid The grid to draw the assets of.
+     */
+    private void drawVisible(SpatialGrid<? extends DrawableGameAsset> grid) {
+        val halfWidth = camera.viewportWidth / 2;
+        val halfHeight = camera.viewportHeight / 2;
+        visibleAssets.clear();
+        grid.query(camera.position.x - halfWidth, camera.position.y - halfHeight,
+                camera.position.x + halfWidth, camera.position.y + halfHeight, visibleAssets);
+        visibleAssets.forEach(drawable -> drawable.draw(gameBatch));
+    }
+
+    /**
+     * Processes all flaggables, after applying the pending entity spawns and despawns and capturing the previous
+     * tick state of the {@link com.github.moribund.simulation.EntityStore}. This is the step of the simulation, run once per tick.
+     * The projectiles are processed last, by the {@link ProjectileUpdater}, so that they are tested against where
+     * the players are at the end of the tick.
+     *
+     * <p>
+     * Only the flaggables due by their {@link UpdateTier} are processed, see {@link GameScreen#tierOf(Flaggable)}.
      */
     private void processFlags() {
-        MoribundClient.getInstance().getFlaggables().forEach(Flaggable::processFlags);
+        val client = MoribundClient.getInstance();
+        client.getEntityCommands().flush();
+        client.getEntityStore().captureTick();
+        val tick = client.getClock().getTick();
+        val flaggables = client.getFlaggables();
+        tickProjectiles.clear();
+        for (int i = 0; i < flaggables.size(); i++) {
+            val flaggable = flaggables.get(i);
+            if (flaggable instanceof Projectile) {
+                val projectile = (Projectile) flaggable;
+                if (tierOf(projectile).isDue(tick, projectile.getUniqueId())) {
+                    tickProjectiles.add(projectile);
+                }
+            } else if (tierOf(flaggable) == UpdateTier.DORMANT) {
+                val player = (PlayableCharacter) flaggable;
+                player.updateGrid();
+                player.advanceAnimation();
+            } else {
+                flaggable.processFlags();
+            }
+        }
+        ProjectileUpdater.update(tickProjectiles);
+        recordHistory(tick + 1);
+    }
+
+    /**
+     * Records the state of every player at the end of a tick into the
+     * {@link com.github.moribund.simulation.StateHistory}.
+     * @param tick The tick that was stepped to.
+     */
+    private void recordHistory(long tick) {
+        val client = MoribundClient.getInstance();
+        val history = client.getStateHistory();
+        history.beginFrame(tick, client.getRateController().getHighestSnapshotId());
+        val flaggables = client.getFlaggables();
+        for (int i = 0; i < flaggables.size(); i++) {
+            val flaggable = flaggables.get(i);
+            if (flaggable instanceof PlayableCharacter) {
+                val player = (PlayableCharacter) flaggable;
+                history.record(player.getPlayerId(), player.getX(), player.getY(), player.getRotation());
+            }
+        }
+    }
+
+    /**
+     * Decides the {@link UpdateTier} of a flaggable this tick. Everything within
+     * {@link GameScreen#FULL_UPDATE_MARGIN} of the view of the camera, and the player of this client, is
+     * {@link UpdateTier#FULL}. Beyond it:
+     *
+     * <ul>
+     *     <li>A projectile on its analytic trajectory is {@link UpdateTier#REDUCED}, as it is placed by the tick
+     *     when stepped and its collision test sweeps the whole distance since its last step.</li>
+     *     <li>Any other player is {@link UpdateTier#DORMANT}, following the snapshots of the server alone until it
+     *     comes near the view again; only its animation is still advanced, so that its projectiles launch on
+     *     time.</li>
+     * </ul>
+     *
+     * Collisions with the player of this client are unaffected, as the camera follows it.
+     * @param flaggable The flaggable.
+     * @return The tier of the flaggable.
+     */
+    private UpdateTier tierOf(Flaggable flaggable) {
+        if (flaggable instanceof Projectile) {
+            val projectile = (Projectile) flaggable;
+            if (!projectile.isAnalytic() || isNearView(projectile.getX(), projectile.getY())) {
+                return UpdateTier.FULL;
+            }
+            return UpdateTier.REDUCED;
+        } else if (flaggable instanceof PlayableCharacter) {
+            val player = (PlayableCharacter) flaggable;
+            if (player == MoribundClient.getInstance().getPlayer() || isNearView(player.getX(), player.getY())) {
+                return UpdateTier.FULL;
+            }
+            return UpdateTier.DORMANT;
+        }
+        return UpdateTier.FULL;
+    }
+
+    /**
+     * Checks whether a location is within {@link GameScreen#FULL_UPDATE_MARGIN} of the view of the camera.
+     * @param x The x-coordinate of the location.
+     * @param y The y-coordinate of the location.
+     * @return If the location is near the view.
+     */
+    private boolean isNearView(float x, float y) {
+        val halfWidth = camera.viewportWidth / 2 + FULL_UPDATE_MARGIN;
+        val halfHeight = camera.viewportHeight / 2 + FULL_UPDATE_MARGIN;
+        return Math.abs(x - camera.position.x) <= halfWidth && Math.abs(y - camera.position.y) <= halfHeight;
     }
 
     /**
@@ -238,8 +384,18 @@ class GameScreen implements Screen {
         gameBatch.dispose();
 
         MoribundClient.getInstance().getFlaggables().clear();
+        MoribundClient.getInstance().getEntityCommands().clear();
+        MoribundClient.getInstance().getStateHistory().clear();
         MoribundClient.getInstance().getPlayers().clear();
-        MoribundClient.getInstance().getDrawableGameAssets().clear();
+        MoribundClient.getInstance().getProjectiles().clear();
+        MoribundClient.getInstance().getGroundItems().clear();
         MoribundClient.getInstance().getDrawableUIAssets().clear();
+        MoribundClient.getInstance().getEntityStore().clear();
+        GameStatePacket.reset();
+        if (MoribundClient.getInstance().getGroundItemGrid() != null) {
+            MoribundClient.getInstance().getGroundItemGrid().clear();
+            MoribundClient.getInstance().getPlayerGrid().clear();
+            MoribundClient.getInstance().getProjectileGrid().clear();
+        }
     }
 }
\ No newline at end of file
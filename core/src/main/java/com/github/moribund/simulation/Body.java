@@ -0,0 +1,229 @@
+package com.github.moribund.simulation;
+
+import com.github.moribund.graphics.sprites.SpriteVertices;
+import com.github.moribund.objects.collision.CollisionShape;
+import lombok.Getter;
+
+/**
+ * The {@code Body} is the simulation model of an entity: its slot in the {@link EntityStore}, holding its location,
+ * rotation, velocity, hitpoints and flags, together with its outline and the {@link CollisionShape} placed from it.
+ * A body holds no textures, so the movement, flags and collision of the entity it belongs to run without a GL
+ * context; the render layer only reads the body when drawing, see {@link Body#getRenderX(float)}.
+ *
+ * <p>
+ * Every change to the location or rotation of a body goes through it, which keeps the collision shape in step with
+ * the store.
+ */
+public final class Body {
+
+    /**
+     * The {@link EntityStore} the state of the body is held in.
+     */
+    private final EntityStore store;
+
+    /**
+     * The slot of the body in the {@link Body#store}, or {@code -1} while the body is not spawned.
+     */
+    @Getter
+    private int slot = -1;
+
+    /**
+     * The handle of the {@link Body#slot}, or {@link EntityStore#NO_HANDLE} while the body is not spawned.
+     * @see EntityStore#isCurrent(int)
+     */
+    @Getter
+    private int handle = EntityStore.NO_HANDLE;
+
+    /**
+     * The outline of the body, which its collision shape is made from.
+     */
+    @Getter
+    private SpriteVertices outline;
+
+    /**
+     * The {@link CollisionShape} of the body, which changes along with the {@link Body#outline}.
+     */
+    @Getter
+    private CollisionShape collisionShape;
+
+    /**
+     * Creates a body that is not yet spawned.
+     * @param store The {@link EntityStore} to hold the state of the body in.
+     * @param outline The outline of the body.
+     */
+    public Body(EntityStore store, SpriteVertices outline) {
+        this.store = store;
+        this.outline = outline;
+        collisionShape = new CollisionShape(outline);
+    }
+
+    /**
+     * Spawns the body by allocating its slot in the {@link Body#store}.
+     */
+    public void spawn() {
+        slot = store.allocate();
+        handle = store.handleOf(slot);
+    }
+
+    /**
+     * Despawns the body by freeing its slot in the {@link Body#store}.
+     */
+    public void despawn() {
+        store.free(slot);
+        slot = -1;
+        handle = EntityStore.NO_HANDLE;
+    }
+
+    /**
+     * Changes the outline of the body, keeping the new collision shape at the location and rotation of the body.
+     * @param outline The new outline.
+     */
+    public void setOutline(SpriteVertices outline) {
+        if (this.outline == outline) {
+            return;
+        }
+        this.outline = outline;
+        collisionShape = new CollisionShape(outline);
+        collisionShape.setPosition(getX(), getY());
+        collisionShape.setRotation(getRotation());
+    }
+
+    /**
+     * Gets the x-coordinate of the body.
+     * @return The x-coordinate.
+     */
+    public float getX() {
+        return store.getX(slot);
+    }
+
+    /**
+     * Gets the y-coordinate of the body.
+     * @return The y-coordinate.
+     */
+    public float getY() {
+        return store.getY(slot);
+    }
+
+    /**
+     * Gets the rotation of the body.
+     * @return The rotation, in degrees.
+     */
+    public float getRotation() {
+        return store.getRotation(slot);
+    }
+
+    /**
+     * Sets the location of the body.
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     */
+    public void setPosition(float x, float y) {
+        store.setX(slot, x);
+        store.setY(slot, y);
+        collisionShape.setPosition(x, y);
+    }
+
+    /**
+     * Sets the rotation of the body.
+     * @param rotation The rotation, in degrees.
+     */
+    public void setRotation(float rotation) {
+        store.setRotation(slot, rotation);
+        collisionShape.setRotation(rotation);
+    }
+
+    /**
+     * Sets the velocity of the body.
+     * @param velocityX The velocity on the x-axis, in world units per tick.
+     * @param velocityY The velocity on the y-axis, in world units per tick.
+     */
+    public void setVelocity(float velocityX, float velocityY) {
+        store.setVelocity(slot, velocityX, velocityY);
+    }
+
+    /**
+     * Moves the body by an offset.
+     * @param offsetX The offset on the x-axis.
+     * @param offsetY The offset on the y-axis.
+     */
+    public void translate(float offsetX, float offsetY) {
+        store.translate(slot, offsetX, offsetY);
+        collisionShape.setPosition(getX(), getY());
+    }
+
+    /**
+     * Moves the body by its velocity for a tick.
+     * @param direction The direction to move in, {@code 1} to move forward and {@code -1} to move back.
+     */
+    public void integrate(float direction) {
+        store.integrate(slot, direction);
+        collisionShape.setPosition(getX(), getY());
+    }
+
+    /**
+     * Snaps the previous tick state of the body to its current state, so that it is not drawn moving from wherever
+     * it was before.
+     */
+    public void snap() {
+        store.snap(slot);
+    }
+
+    /**
+     * Gets the hitpoints of the body.
+     * @return The hitpoints.
+     */
+    public int getHitpoints() {
+        return store.getHitpoints(slot);
+    }
+
+    /**
+     * Sets the hitpoints of the body.
+     * @param hitpoints The hitpoints.
+     */
+    public void setHitpoints(int hitpoints) {
+        store.setHitpoints(slot, hitpoints);
+    }
+
+    /**
+     * Gets the mask of the active {@link com.github.moribund.objects.flags.Flag}s of the body.
+     * @return The flag mask.
+     */
+    public int getFlags() {
+        return store.getFlags(slot);
+    }
+
+    /**
+     * Sets the mask of the active {@link com.github.moribund.objects.flags.Flag}s of the body.
+     * @param flags The flag mask.
+     */
+    public void setFlags(int flags) {
+        store.setFlags(slot, flags);
+    }
+
+    /**
+     * Gets the x-coordinate to draw the body at.
+     * @param alpha How far between the previous and the current tick to draw at.
+     * @return The interpolated x-coordinate.
+     */
+    public float getRenderX(float alpha) {
+        return store.getRenderX(slot, alpha);
+    }
+
+    /**
+     * Gets the y-coordinate to draw the body at.
+     * @param alpha How far between the previous and the current tick to draw at.
+     * @return The interpolated y-coordinate.
+     */
+    public float getRenderY(float alpha) {
+        return store.getRenderY(slot, alpha);
+    }
+
+    /**
+     * Gets the rotation to draw the body at.
+     * @param alpha How far between the previous and the current tick to draw at.
+     * @return The interpolated rotation.
+     */
+    public float getRenderRotation(float alpha) {
+        return store.getRenderRotation(slot, alpha);
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.moribund.simulation;
+
+/**
+ * An {@code Entity} is anything that is spawned into and despawned from the game through the
+ * {@link EntityCommandBuffer}, which only ever calls these from the render thread, between ticks and frames.
+ */
+public interface Entity {
+
+    /**
+     * Adds the entity to the collections of the game it is simulated and drawn from.
+     */
+    void onSpawn();
+
+    /**
+     * Removes the entity from the collections of the game and releases what it holds.
+     */
+    void onDespawn();
+}
@@ -0,0 +1,100 @@
+package com.github.moribund.simulation;
+
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
+import it.unimi.dsi.fastutil.booleans.BooleanList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+/**
+ * The {@code EntityCommandBuffer} collects the spawns and despawns of {@link Entity}s requested while packets are
+ * processed or the game is simulated, and applies them in bulk, in the order they were requested, once the render
+ * thread reaches a safe point: before a frame is simulated and before each tick. The collections of the game are
+ * therefore never modified while they are iterated.
+ *
+ * <p>
+ * Commands requested while the buffer is applied, such as by an entity despawning another, are applied at the next
+ * safe point.
+ */
+public final class EntityCommandBuffer {
+
+    /**
+     * The entities of the commands requested since the last flush.
+     */
+    private ObjectList<Entity> pendingEntities;
+
+    /**
+     * Whether each pending command is a spawn, rather than a despawn.
+     */
+    private BooleanList pendingSpawns;
+
+    /**
+     * The entities of the commands being applied, swapped with the {@link EntityCommandBuffer#pendingEntities}.
+     */
+    private ObjectList<Entity> appliedEntities;
+
+    /**
+     * Whether each command being applied is a spawn, swapped with the {@link EntityCommandBuffer#pendingSpawns}.
+     */
+    private BooleanList appliedSpawns;
+
+    /**
+     * Creates an empty command buffer.
+     */
+    public EntityCommandBuffer() {
+        pendingEntities = new ObjectArrayList<>();
+        pendingSpawns = new BooleanArrayList();
+        appliedEntities = new ObjectArrayList<>();
+        appliedSpawns = new BooleanArrayList();
+    }
+
+    /**
+     * Requests an entity to be spawned at the next safe point.
+     * @param entity The entity.
+     */
+    public void spawn(Entity entity) {
+        pendingEntities.add(entity);
+        pendingSpawns.add(true);
+    }
+
+    /**
+     * Requests an entity to be despawned at the next safe point.
+     * @param entity The entity.
+     */
+    public void despawn(Entity entity) {
+        pendingEntities.add(entity);
+        pendingSpawns.add(false);
+    }
+
+    /**
+     * Applies every pending command.
+     */
+    public void flush() {
+        if (pendingEntities.isEmpty()) {
+            return;
+        }
+        val entities = pendingEntities;
+        val spawns = pendingSpawns;
+        pendingEntities = appliedEntities;
+        pendingSpawns = appliedSpawns;
+        appliedEntities = entities;
+        appliedSpawns = spawns;
+        for (int i = 0; i < appliedEntities.size(); i++) {
+            if (appliedSpawns.getBoolean(i)) {
+                appliedEntities.get(i).onSpawn();
+            } else {
+                appliedEntities.get(i).onDespawn();
+            }
+        }
+        appliedEntities.clear();
+        appliedSpawns.clear();
+    }
+
+    /**
+     * Drops every pending command.
+     */
+    public void clear() {
+        pendingEntities.clear();
+        pendingSpawns.clear();
+    }
+}
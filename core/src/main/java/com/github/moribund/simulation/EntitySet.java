@@ -0,0 +1,97 @@
+package com.github.moribund.simulation;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+/**
+ * An {@code EntitySet} is a set of entities kept densely in a list to be iterated by index, with the index of every
+ * entity tracked so that it is removed in constant time by moving the last entity into its place. The order of the
+ * entities therefore changes as entities are removed.
+ * @param <T> The type of entity.
+ */
+public final class EntitySet<T> {
+
+    /**
+     * The entities, densely packed.
+     */
+    private final ObjectList<T> entities;
+
+    /**
+     * The index of each entity in the {@link EntitySet#entities}.
+     */
+    private final Object2IntMap<T> indices;
+
+    /**
+     * Creates an empty set.
+     */
+    public EntitySet() {
+        entities = new ObjectArrayList<>();
+        indices = new Object2IntOpenHashMap<>();
+        indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds an entity, should it not already be in the set.
+     * @param entity The entity.
+     */
+    public void add(T entity) {
+        if (indices.containsKey(entity)) {
+            return;
+        }
+        indices.put(entity, entities.size());
+        entities.add(entity);
+    }
+
+    /**
+     * Removes an entity by moving the last entity into its place. Removing an entity not in the set does nothing.
+     * @param entity The entity.
+     */
+    public void remove(T entity) {
+        val index = indices.removeInt(entity);
+        if (index == -1) {
+            return;
+        }
+        val last = entities.remove(entities.size() - 1);
+        if (index < entities.size()) {
+            entities.set(index, last);
+            indices.put(last, index);
+        }
+    }
+
+    /**
+     * Checks whether an entity is in the set.
+     * @param entity The entity.
+     * @return If the entity is in the set.
+     */
+    public boolean contains(T entity) {
+        return indices.containsKey(entity);
+    }
+
+    /**
+     * Gets the entity at an index.
+     * @param index The index, below {@link EntitySet#size()}.
+     * @return The entity.
+     */
+    public T get(int index) {
+        return entities.get(index);
+    }
+
+    /**
+     * Gets the amount of entities in the set.
+     * @return The amount of entities.
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    /**
+     * Removes every entity.
+     */
+    public void clear() {
+        entities.clear();
+        indices.clear();
+    }
+}
@@ -0,0 +1,417 @@
+package com.github.moribund.simulation;
+
+import com.badlogic.gdx.math.MathUtils;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import lombok.Getter;
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code EntityStore} holds the hot simulation state of every entity (players and projectiles) in parallel
+ * primitive arrays, one column per attribute, indexed by the slot the entity was allocated. The simulation and
+ * collision can therefore stream through contiguous memory, while render-only data such as
+ * {@link com.badlogic.gdx.graphics.g2d.Sprite}s stays on the entities themselves and is synced from the store when
+ * drawn.
+ *
+ * <p>
+ * The store also keeps the location and rotation as of the previous tick, which is captured for every slot at once
+ * by {@link EntityStore#captureTick()} and used to draw entities between ticks.
+ *
+ * <p>
+ * Slots are allocated and freed on the render thread only, and the columns are allocated once at a fixed
+ * {@link EntityStore#CAPACITY}, so that a column read by a worker of the
+ * {@link com.github.moribund.objects.nonplayable.projectile.ProjectileUpdater} is never swapped out from under it.
+ * Allocating more slots than that fails loudly. Freed slots are reused before new ones are taken. Since a slot may be reused, code holding on to an entity across
+ * time keeps its handle, which pairs the slot with the generation of the slot when it was allocated: the generation
+ * is bumped every time the slot is freed, so a stale handle is detected by {@link EntityStore#isCurrent(int)}.
+ */
+public final class EntityStore {
+
+    /**
+     * The amount of slots in the store, which bounds the amount of entities alive at once.
+     */
+    public static final int CAPACITY = 4096;
+
+    /**
+     * The amount of low bits of a handle holding the slot.
+     */
+    private static final int SLOT_BITS = 20;
+
+    /**
+     * The mask of the slot within a handle.
+     */
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    /**
+     * The mask of a generation, which leaves handles positive.
+     */
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - 1 - SLOT_BITS)) - 1;
+
+    /**
+     * The handle that never refers to a slot.
+     */
+    public static final int NO_HANDLE = -1;
+
+    /**
+     * The x-coordinate column.
+     */
+    private final float[] x;
+
+    /**
+     * The y-coordinate column.
+     */
+    private final float[] y;
+
+    /**
+     * The rotation column, in degrees.
+     */
+    private final float[] rotation;
+
+    /**
+     * The x-velocity column, in world units per tick.
+     */
+    private final float[] velocityX;
+
+    /**
+     * The y-velocity column, in world units per tick.
+     */
+    private final float[] velocityY;
+
+    /**
+     * The hitpoints column.
+     */
+    private final int[] hitpoints;
+
+    /**
+     * The flag mask column.
+     * @see com.github.moribund.objects.flags.FlagConstants#mask(com.github.moribund.objects.flags.Flag)
+     */
+    private final int[] flags;
+
+    /**
+     * The x-coordinate column as of the previous tick.
+     */
+    private final float[] previousX;
+
+    /**
+     * The y-coordinate column as of the previous tick.
+     */
+    private final float[] previousY;
+
+    /**
+     * The rotation column as of the previous tick.
+     */
+    private final float[] previousRotation;
+
+    /**
+     * Whether each slot is allocated.
+     */
+    private final boolean[] alive;
+
+    /**
+     * The generation column, bumped every time a slot is freed.
+     */
+    private final int[] generations;
+
+    /**
+     * The freed slots, reused before new slots are taken.
+     */
+    private final IntArrayList freeSlots;
+
+    /**
+     * One past the highest slot ever allocated, which bounds every loop over the columns.
+     */
+    @Getter
+    private int highWaterMark;
+
+    /**
+     * Creates an empty entity store.
+     */
+    public EntityStore() {
+        x = new float[CAPACITY];
+        y = new float[CAPACITY];
+        rotation = new float[CAPACITY];
+        velocityX = new float[CAPACITY];
+        velocityY = new float[CAPACITY];
+        hitpoints = new int[CAPACITY];
+        flags = new int[CAPACITY];
+        previousX = new float[CAPACITY];
+        previousY = new float[CAPACITY];
+        previousRotation = new float[CAPACITY];
+        alive = new boolean[CAPACITY];
+        generations = new int[CAPACITY];
+        freeSlots = new IntArrayList();
+    }
+
+    /**
+     * Allocates a slot, with every attribute zeroed.
+     * @return The slot allocated.
+     * @throws IllegalStateException If all {@link EntityStore#CAPACITY} slots are allocated.
+     */
+    public int allocate() {
+        final int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.popInt();
+        } else {
+            if (highWaterMark == CAPACITY) {
+                throw new IllegalStateException("Every slot of the entity store is allocated.");
+            }
+            slot = highWaterMark++;
+        }
+        x[slot] = y[slot] = rotation[slot] = 0;
+        velocityX[slot] = velocityY[slot] = 0;
+        previousX[slot] = previousY[slot] = previousRotation[slot] = 0;
+        hitpoints[slot] = 0;
+        flags[slot] = 0;
+        alive[slot] = true;
+        return slot;
+    }
+
+    /**
+     * Frees a slot for reuse. Freeing a slot that is not allocated does nothing.
+     * @param slot The slot to free.
+     */
+    public void free(int slot) {
+        if (slot < 0 || slot >= highWaterMark || !alive[slot]) {
+            return;
+        }
+        alive[slot] = false;
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        freeSlots.add(slot);
+    }
+
+    /**
+     * Frees every slot.
+     */
+    public void clear() {
+        for (int slot = 0; slot < highWaterMark; slot++) {
+            generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        }
+        Arrays.fill(alive, false);
+        freeSlots.clear();
+        highWaterMark = 0;
+    }
+
+    /**
+     * Captures the location and rotation of every slot as the previous tick state. This is called before each tick
+     * is stepped.
+     */
+    public void captureTick() {
+        System.arraycopy(x, 0, previousX, 0, highWaterMark);
+        System.arraycopy(y, 0, previousY, 0, highWaterMark);
+        System.arraycopy(rotation, 0, previousRotation, 0, highWaterMark);
+    }
+
+    /**
+     * Checks whether a slot is allocated.
+     * @param slot The slot.
+     * @return If the slot is allocated.
+     */
+    public boolean isAlive(int slot) {
+        return alive[slot];
+    }
+
+    /**
+     * Gets the handle of an allocated slot.
+     * @param slot The slot.
+     * @return The handle, pairing the slot with its current generation.
+     */
+    public int handleOf(int slot) {
+        return (generations[slot] << SLOT_BITS) | slot;
+    }
+
+    /**
+     * Checks whether a handle still refers to the allocation it was made for, i.e. its slot has not been freed since.
+     * @param handle The handle.
+     * @return If the handle is current.
+     */
+    public boolean isCurrent(int handle) {
+        if (handle == NO_HANDLE) {
+            return false;
+        }
+        val slot = handle & SLOT_MASK;
+        return slot < highWaterMark && alive[slot] && handleOf(slot) == handle;
+    }
+
+    /**
+     * Gets the x-coordinate of a slot.
+     * @param slot The slot.
+     * @return The x-coordinate of the slot.
+     */
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Sets the x-coordinate of a slot.
+     * @param slot The slot.
+     * @param value The x-coordinate.
+     */
+    public void setX(int slot, float value) {
+        x[slot] = value;
+    }
+
+    /**
+     * Gets the y-coordinate of a slot.
+     * @param slot The slot.
+     * @return The y-coordinate of the slot.
+     */
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Sets the y-coordinate of a slot.
+     * @param slot The slot.
+     * @param value The y-coordinate.
+     */
+    public void setY(int slot, float value) {
+        y[slot] = value;
+    }
+
+    /**
+     * Gets the rotation of a slot.
+     * @param slot The slot.
+     * @return The rotation of the slot.
+     */
+    public float getRotation(int slot) {
+        return rotation[slot];
+    }
+
+    /**
+     * Sets the rotation of a slot.
+     * @param slot The slot.
+     * @param value The rotation.
+     */
+    public void setRotation(int slot, float value) {
+        rotation[slot] = value;
+    }
+
+    /**
+     * Gets the x-velocity of a slot.
+     * @param slot The slot.
+     * @return The x-velocity of the slot.
+     */
+    public float getVelocityX(int slot) {
+        return velocityX[slot];
+    }
+
+    /**
+     * Gets the y-velocity of a slot.
+     * @param slot The slot.
+     * @return The y-velocity of the slot.
+     */
+    public float getVelocityY(int slot) {
+        return velocityY[slot];
+    }
+
+    /**
+     * Sets the velocity of a slot.
+     * @param slot The slot.
+     * @param velocityX The x-velocity, in world units per tick.
+     * @param velocityY The y-velocity, in world units per tick.
+     */
+    public void setVelocity(int slot, float velocityX, float velocityY) {
+        this.velocityX[slot] = velocityX;
+        this.velocityY[slot] = velocityY;
+    }
+
+    /**
+     * Gets the hitpoints of a slot.
+     * @param slot The slot.
+     * @return The hitpoints of the slot.
+     */
+    public int getHitpoints(int slot) {
+        return hitpoints[slot];
+    }
+
+    /**
+     * Sets the hitpoints of a slot.
+     * @param slot The slot.
+     * @param value The hitpoints.
+     */
+    public void setHitpoints(int slot, int value) {
+        hitpoints[slot] = value;
+    }
+
+    /**
+     * Gets the flag mask of a slot.
+     * @param slot The slot.
+     * @return The flag mask of the slot.
+     */
+    public int getFlags(int slot) {
+        return flags[slot];
+    }
+
+    /**
+     * Sets the flag mask of a slot.
+     * @param slot The slot.
+     * @param value The flag mask.
+     */
+    public void setFlags(int slot, int value) {
+        flags[slot] = value;
+    }
+
+    /**
+     * Moves a slot by an offset.
+     * @param slot The slot.
+     * @param offsetX The offset on the x-axis.
+     * @param offsetY The offset on the y-axis.
+     */
+    public void translate(int slot, float offsetX, float offsetY) {
+        x[slot] += offsetX;
+        y[slot] += offsetY;
+    }
+
+    /**
+     * Moves a slot by its velocity.
+     * @param slot The slot.
+     * @param direction The direction to move in, {@code 1} for forward and {@code -1} for backward.
+     */
+    public void integrate(int slot, float direction) {
+        x[slot] += velocityX[slot] * direction;
+        y[slot] += velocityY[slot] * direction;
+    }
+
+    /**
+     * Resets the previous tick state of a slot to its current state, so that a slot that has been placed (rather
+     * than moved) is not drawn sliding from its former location.
+     * @param slot The slot.
+     */
+    public void snap(int slot) {
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        previousRotation[slot] = rotation[slot];
+    }
+
+    /**
+     * Gets the x-coordinate of a slot, interpolated between the previous and current tick.
+     * @param slot The slot.
+     * @param alpha The fraction of a tick the renderer is past the current tick.
+     * @return The interpolated x-coordinate.
+     */
+    public float getRenderX(int slot, float alpha) {
+        return MathUtils.lerp(previousX[slot], x[slot], alpha);
+    }
+
+    /**
+     * Gets the y-coordinate of a slot, interpolated between the previous and current tick.
+     * @param slot The slot.
+     * @param alpha The fraction of a tick the renderer is past the current tick.
+     * @return The interpolated y-coordinate.
+     */
+    public float getRenderY(int slot, float alpha) {
+        return MathUtils.lerp(previousY[slot], y[slot], alpha);
+    }
+
+    /**
+     * Gets the rotation of a slot, interpolated between the previous and current tick along the shortest arc.
+     * @param slot The slot.
+     * @param alpha The fraction of a tick the renderer is past the current tick.
+     * @return The interpolated rotation.
+     */
+    public float getRenderRotation(int slot, float alpha) {
+        return MathUtils.lerpAngleDeg(previousRotation[slot], rotation[slot], alpha);
+    }
+}
@@ -0,0 +1,255 @@
+package com.github.moribund.simulation;
+
+import lombok.Getter;
+import lombok.val;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code GameClock} is the one clock of the game. It reads a monotonic source of nanoseconds, by default
+ * {@link System#nanoTime()}, and from it advances the simulation in ticks of a fixed length, independent of the
+ * frame rate. Every rendered frame adds the time since the last frame to an accumulator, and as many whole ticks as
+ * fit into it are stepped. The remainder is exposed as {@link GameClock#alpha}, the fraction of a tick the renderer
+ * is past the current tick, which is used to interpolate between the previous and current tick states.
+ *
+ * <p>
+ * Game time, which is the ticks and the render time, can be paused and scaled, while real time and the estimated
+ * server time can not. Replays and benchmarks can drive the game deterministically by either handing the clock a
+ * source of their own or stepping it a set amount of ticks, see {@link GameClock#step(int, Runnable)}.
+ *
+ * <p>
+ * The ticks are advanced from the render thread only, but read by the workers of the
+ * {@link com.github.moribund.objects.nonplayable.projectile.ProjectileUpdater} as well, so the
+ * {@link GameClock#tick} and {@link GameClock#alpha} are volatile. The estimated server time may be read from any
+ * thread, so it is synchronized.
+ */
+public final class GameClock {
+
+    /**
+     * The amount of ticks per second.
+     */
+    public static final int TICK_RATE = 60;
+
+    /**
+     * The length of a tick in seconds.
+     */
+    public static final float TICK_SECONDS = 1f / TICK_RATE;
+
+    /**
+     * The most ticks stepped in a single frame at a {@link GameClock#timeScale} of one. Should a frame take longer
+     * than this (such as while the window is being dragged), the excess time is dropped rather than simulated all at
+     * once.
+     */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+    /**
+     * How much of the difference between a new server time sample and the current estimate is taken on.
+     */
+    private static final double SERVER_TIME_SMOOTHING = 0.1;
+
+    /**
+     * The monotonic source of nanoseconds.
+     */
+    private final LongSupplier source;
+
+    /**
+     * The source's time at the last frame, or {@code -1} before the first frame.
+     */
+    private long lastFrameNanos = -1;
+
+    /**
+     * The time, in seconds, that has been rendered but not yet simulated.
+     */
+    private float accumulator;
+
+    /**
+     * The amount of ticks simulated since the game started.
+     */
+    @Getter
+    private volatile long tick;
+
+    /**
+     * The fraction of a tick the renderer is past the current tick, from 0 to 1.
+     */
+    @Getter
+    private volatile float alpha;
+
+    /**
+     * The tick the last frame was drawn at, see {@link GameClock#frameDrawn()}.
+     */
+    @Getter
+    private long drawnTick;
+
+    /**
+     * The fraction of a tick past the {@link GameClock#drawnTick} the last frame was drawn at.
+     */
+    @Getter
+    private float drawnAlpha;
+
+    /**
+     * Whether game time stands still.
+     */
+    @Getter
+    private volatile boolean paused;
+
+    /**
+     * The rate game time passes at relative to real time.
+     */
+    @Getter
+    private volatile float timeScale = 1;
+
+    /**
+     * The estimated difference between the server's time and {@link GameClock#getRealTimeMillis()}, in milliseconds.
+     */
+    private double serverTimeOffset;
+
+    /**
+     * Whether any server time has been received.
+     */
+    private boolean serverTimeKnown;
+
+    /**
+     * The latest estimated server time handed out, which later estimates never go below.
+     */
+    private long lastServerTime;
+
+    /**
+     * Makes a clock reading {@link System#nanoTime()}.
+     */
+    public GameClock() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Makes a clock reading a source of its own, such as that of a replay.
+     * @param source The monotonic source of nanoseconds.
+     */
+    public GameClock(LongSupplier source) {
+        this.source = source;
+    }
+
+    /**
+     * Advances the simulation by the time passed since the last frame, scaled by the {@link GameClock#timeScale}.
+     * Nothing is simulated while paused, nor on the first frame.
+     * @param step The step of the simulation, run once per tick.
+     */
+    public void advance(Runnable step) {
+        val now = source.getAsLong();
+        val elapsedNanos = lastFrameNanos == -1 ? 0 : now - lastFrameNanos;
+        lastFrameNanos = now;
+        if (paused) {
+            return;
+        }
+        accumulator += elapsedNanos / 1e9f * timeScale;
+        val maxTicks = MAX_TICKS_PER_FRAME * Math.max(1, (int) Math.ceil(timeScale));
+        int ticks = 0;
+        while (accumulator >= TICK_SECONDS && ticks < maxTicks) {
+            step.run();
+            accumulator -= TICK_SECONDS;
+            tick++;
+            ticks++;
+        }
+        if (ticks == maxTicks) {
+            accumulator = Math.min(accumulator, TICK_SECONDS);
+        }
+        alpha = accumulator / TICK_SECONDS;
+    }
+
+    /**
+     * Steps the simulation a set amount of ticks, regardless of the time passed, the {@link GameClock#timeScale} or
+     * whether the clock is paused. The renderer is left on the last tick stepped.
+     * @param ticks The amount of ticks to step.
+     * @param step The step of the simulation, run once per tick.
+     */
+    public void step(int ticks, Runnable step) {
+        for (int i = 0; i < ticks; i++) {
+            step.run();
+            tick++;
+        }
+        accumulator = 0;
+        alpha = 0;
+    }
+
+    /**
+     * Records the tick and alpha the frame was just drawn at. While the next frame's ticks are being stepped, the
+     * {@link GameClock#tick} and {@link GameClock#alpha} are already past what the player saw, so anything reporting
+     * what was on screen, such as a hit, reads the {@link GameClock#drawnTick} and {@link GameClock#drawnAlpha}
+     * instead.
+     */
+    public void frameDrawn() {
+        drawnTick = tick;
+        drawnAlpha = alpha;
+    }
+
+    /**
+     * Pauses or resumes game time.
+     * @param paused If game time should stand still.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Sets the rate game time passes at relative to real time, such as {@code 0.5} for slow motion or {@code 4} to
+     * fast-forward.
+     * @param timeScale The rate, which must not be negative.
+     */
+    public void setTimeScale(float timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("Negative time scale: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Gets the game time the renderer is at, which is the ticks simulated and the fraction of a tick past them.
+     * @return The render time in seconds.
+     */
+    public double getRenderTime() {
+        return (tick + alpha) * (double) TICK_SECONDS;
+    }
+
+    /**
+     * Gets the real time, which is neither paused nor scaled.
+     * @return The time of the source, in nanoseconds.
+     */
+    public long getRealTimeNanos() {
+        return source.getAsLong();
+    }
+
+    /**
+     * Gets the real time, which is neither paused nor scaled.
+     * @return The time of the source, in milliseconds.
+     */
+    public long getRealTimeMillis() {
+        return source.getAsLong() / 1_000_000L;
+    }
+
+    /**
+     * Takes in the time of the server as sent with a snapshot. The server time is taken to have been sent half a
+     * round trip ago, and the estimate is eased towards it to smooth over jitter.
+     * @param serverTime The time of the server, in milliseconds.
+     * @param returnTripTime The round trip time to the server in milliseconds, or {@code -1} if not yet measured.
+     */
+    public synchronized void serverTimeReceived(long serverTime, int returnTripTime) {
+        val sample = serverTime + Math.max(0, returnTripTime) / 2.0 - getRealTimeMillis();
+        if (serverTimeKnown) {
+            serverTimeOffset += (sample - serverTimeOffset) * SERVER_TIME_SMOOTHING;
+        } else {
+            serverTimeOffset = sample;
+            serverTimeKnown = true;
+        }
+    }
+
+    /**
+     * Gets the estimated time of the server. The estimate never goes backwards.
+     * @return The estimated time of the server in milliseconds, or {@code -1} if no server time has been received.
+     */
+    public synchronized long getServerTime() {
+        if (!serverTimeKnown) {
+            return -1;
+        }
+        lastServerTime = Math.max(lastServerTime, getRealTimeMillis() + (long) serverTimeOffset);
+        return lastServerTime;
+    }
+}
@@ -0,0 +1,241 @@
+package com.github.moribund.simulation;
+
+import lombok.Getter;
+import lombok.val;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * The {@code ObstacleMap} marks the tiles of the map that cannot be walked or shot through, as a bitmask of
+ * {@link ObstacleMap#TILE_SIZE} square tiles laid over the {@link WorldBounds} from their bottom left corner. It is
+ * baked offline from a mask image drawn over the background, so testing a location against the obstacles is a
+ * single bit lookup rather than a polygon test.
+ *
+ * <p>
+ * Once baked, the map is stored as the amount of columns and rows followed by the bitmask, row by row from the
+ * bottom of the map, in {@code long}s. Locations outside of the map are never blocked, as leaving the map is
+ * already prevented by the {@link WorldBounds}.
+ */
+public final class ObstacleMap {
+
+    /**
+     * The length of the side of a tile, in world units.
+     */
+    public static final int TILE_SIZE = 16;
+
+    /**
+     * The path of the baked obstacle map of the background, relative to the assets.
+     */
+    public static final String FILE = "images/background.obstacles";
+
+    /**
+     * The amount of tiles along the x-axis.
+     */
+    @Getter
+    private final int columns;
+
+    /**
+     * The amount of tiles along the y-axis.
+     */
+    @Getter
+    private final int rows;
+
+    /**
+     * The bit of each tile, set if the tile is blocked, indexed by {@code row * columns + column}.
+     */
+    private final long[] bits;
+
+    /**
+     * The x-coordinate of the left edge of the map.
+     */
+    private float minX;
+
+    /**
+     * The y-coordinate of the bottom edge of the map.
+     */
+    private float minY;
+
+    /**
+     * Creates an obstacle map with no tile blocked.
+     * @param columns The amount of tiles along the x-axis.
+     * @param rows The amount of tiles along the y-axis.
+     */
+    public ObstacleMap(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        bits = new long[(columns * rows + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * Creates an obstacle map over a map with no tile blocked, which is used should the map have no baked
+     * obstacle map.
+     * @param worldBounds The bounds of the map.
+     * @return The empty obstacle map.
+     */
+    public static ObstacleMap empty(WorldBounds worldBounds) {
+        val obstacleMap = new ObstacleMap(columnsOver(worldBounds), rowsOver(worldBounds));
+        obstacleMap.placeOver(worldBounds);
+        return obstacleMap;
+    }
+
+    /**
+     * Gets the amount of tiles along the x-axis of a map.
+     * @param worldBounds The bounds of the map.
+     * @return The amount of columns.
+     */
+    private static int columnsOver(WorldBounds worldBounds) {
+        return (int) Math.ceil(worldBounds.getWidth() / TILE_SIZE);
+    }
+
+    /**
+     * Gets the amount of tiles along the y-axis of a map.
+     * @param worldBounds The bounds of the map.
+     * @return The amount of rows.
+     */
+    private static int rowsOver(WorldBounds worldBounds) {
+        return (int) Math.ceil(worldBounds.getHeight() / TILE_SIZE);
+    }
+
+    /**
+     * Reads a baked obstacle map and lays it over a map.
+     * @param input The stream to read the obstacle map from.
+     * @param worldBounds The bounds of the map.
+     * @return The obstacle map read.
+     * @throws IOException Should the stream fail to be read, or should the obstacle map not have been baked for a
+     * map of the same size, such as when the background was replaced without baking its obstacle map again.
+     */
+    public static ObstacleMap read(DataInputStream input, WorldBounds worldBounds) throws IOException {
+        val columns = input.readInt();
+        val rows = input.readInt();
+        val expectedColumns = columnsOver(worldBounds);
+        val expectedRows = rowsOver(worldBounds);
+        if (columns != expectedColumns || rows != expectedRows) {
+            throw new IOException("The obstacle map is " + columns + "x" + rows + " tiles, but the map is "
+                    + expectedColumns + "x" + expectedRows + " tiles.");
+        }
+        val obstacleMap = new ObstacleMap(columns, rows);
+        for (int i = 0; i < obstacleMap.bits.length; i++) {
+            obstacleMap.bits[i] = input.readLong();
+        }
+        obstacleMap.placeOver(worldBounds);
+        return obstacleMap;
+    }
+
+    /**
+     * Writes the obstacle map as it is read by {@link ObstacleMap#read(DataInputStream, WorldBounds)}.
+     * @param output The stream to write the obstacle map to.
+     * @throws IOException Should the stream fail to be written.
+     */
+    public void write(DataOutputStream output) throws IOException {
+        output.writeInt(columns);
+        output.writeInt(rows);
+        for (long word : bits) {
+            output.writeLong(word);
+        }
+    }
+
+    /**
+     * Lays the obstacle map over a map, its first tile at the bottom left corner of the map.
+     * @param worldBounds The bounds of the map.
+     */
+    private void placeOver(WorldBounds worldBounds) {
+        minX = worldBounds.getMinX();
+        minY = worldBounds.getMinY();
+    }
+
+    /**
+     * Marks a tile as blocked.
+     * @param column The column of the tile.
+     * @param row The row of the tile, counted from the bottom of the map.
+     */
+    public void setBlocked(int column, int row) {
+        val index = row * columns + column;
+        bits[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+    }
+
+    /**
+     * Checks whether a tile is blocked.
+     * @param column The column of the tile.
+     * @param row The row of the tile, counted from the bottom of the map.
+     * @return If the tile is blocked, which a tile outside of the map never is.
+     */
+    public boolean isTileBlocked(int column, int row) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return false;
+        }
+        val index = row * columns + column;
+        return (bits[index / Long.SIZE] & (1L << (index % Long.SIZE))) != 0;
+    }
+
+    /**
+     * Checks whether the tile a location lies in is blocked.
+     * @param x The x-coordinate of the location.
+     * @param y The y-coordinate of the location.
+     * @return If the location is blocked.
+     */
+    public boolean isBlocked(float x, float y) {
+        return isTileBlocked(columnOf(x), rowOf(y));
+    }
+
+    /**
+     * Checks whether any tile an area overlaps is blocked.
+     * @param minX The x-coordinate of the left edge of the area.
+     * @param minY The y-coordinate of the bottom edge of the area.
+     * @param maxX The x-coordinate of the right edge of the area.
+     * @param maxY The y-coordinate of the top edge of the area.
+     * @return If the area is blocked.
+     */
+    public boolean isBlocked(float minX, float minY, float maxX, float maxY) {
+        val lastColumn = columnOf(maxX);
+        val lastRow = rowOf(maxY);
+        for (int row = rowOf(minY); row <= lastRow; row++) {
+            for (int column = columnOf(minX); column <= lastColumn; column++) {
+                if (isTileBlocked(column, row)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a line crosses a blocked tile, by testing points along it half a tile apart. This catches a
+     * projectile passing through an obstacle between two of its steps.
+     * @param fromX The x-coordinate of the start of the line.
+     * @param fromY The y-coordinate of the start of the line.
+     * @param toX The x-coordinate of the end of the line.
+     * @param toY The y-coordinate of the end of the line.
+     * @return If the line is blocked.
+     */
+    public boolean isLineBlocked(float fromX, float fromY, float toX, float toY) {
+        val length = (float) Math.hypot(toX - fromX, toY - fromY);
+        val steps = (int) (length / (TILE_SIZE / 2f));
+        for (int i = 1; i <= steps; i++) {
+            val progress = i / (float) (steps + 1);
+            if (isBlocked(fromX + (toX - fromX) * progress, fromY + (toY - fromY) * progress)) {
+                return true;
+            }
+        }
+        return isBlocked(toX, toY);
+    }
+
+    /**
+     * Gets the column an x-coordinate lies in.
+     * @param x The x-coordinate.
+     * @return The column, which may be outside of the map.
+     */
+    private int columnOf(float x) {
+        return (int) Math.floor((x - minX) / TILE_SIZE);
+    }
+
+    /**
+     * Gets the row a y-coordinate lies in.
+     * @param y The y-coordinate.
+     * @return The row, which may be outside of the map.
+     */
+    private int rowOf(float y) {
+        return (int) Math.floor((y - minY) / TILE_SIZE);
+    }
+}
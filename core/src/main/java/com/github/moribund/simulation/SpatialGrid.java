@@ -0,0 +1,232 @@
+package com.github.moribund.simulation;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import lombok.val;
+
+/**
+ * A {@code SpatialGrid} is a uniform grid over the map that indexes entities by the cell their location lies in,
+ * so that spatial queries only visit the cells they overlap rather than every entity. It is updated incrementally:
+ * moving an entity only touches the grid when it crosses into another cell.
+ *
+ * <p>
+ * Entities are indexed by their location (the bottom-left corner of their sprite) rather than by their bounds, so
+ * every query is grown by the {@link SpatialGrid#padding}, the largest extent of an entity in the grid, to still find
+ * entities that reach into the queried area from a neighbouring cell. Locations outside of the map are clamped to
+ * the border cells.
+ *
+ * @param <T> The type of entity indexed.
+ */
+public final class SpatialGrid<T> {
+
+    /**
+     * The length of the side of a cell, in world units.
+     */
+    public static final float CELL_SIZE = 256;
+
+    /**
+     * The x-coordinate of the left edge of the grid.
+     */
+    private final float minX;
+
+    /**
+     * The y-coordinate of the bottom edge of the grid.
+     */
+    private final float minY;
+
+    /**
+     * The amount of columns of cells.
+     */
+    private final int columns;
+
+    /**
+     * The amount of rows of cells.
+     */
+    private final int rows;
+
+    /**
+     * The largest extent of an entity in the grid, by which queries are grown.
+     */
+    private final float padding;
+
+    /**
+     * The entities in each cell, indexed by {@code row * columns + column}.
+     */
+    private final ObjectList<T>[] cells;
+
+    /**
+     * The cell each entity is in.
+     */
+    private final Object2IntMap<T> cellOf;
+
+    /**
+     * Creates a grid covering an area.
+     * @param minX The x-coordinate of the left edge of the area.
+     * @param minY The y-coordinate of the bottom edge of the area.
+     * @param width The width of the area.
+     * @param height The height of the area.
+     * @param padding The largest extent of an entity in the grid.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SpatialGrid(float minX, float minY, float width, float height, float padding) {
+        this.minX = minX;
+        this.minY = minY;
+        this.padding = padding;
+        columns = Math.max(1, (int) Math.ceil(width / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil(height / CELL_SIZE));
+        cells = new ObjectList[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new ObjectArrayList<>();
+        }
+        cellOf = new Object2IntOpenHashMap<>();
+        cellOf.defaultReturnValue(-1);
+    }
+
+    /**
+     * Creates a grid covering the map.
+     * @param worldBounds The bounds of the map.
+     * @param padding The largest extent of an entity in the grid.
+     * @param <T> The type of entity indexed.
+     * @return The grid covering the map.
+     */
+    public static <T> SpatialGrid<T> overMap(WorldBounds worldBounds, float padding) {
+        return new SpatialGrid<>(worldBounds.getMinX(), worldBounds.getMinY(),
+                worldBounds.getWidth(), worldBounds.getHeight(), padding);
+    }
+
+    /**
+     * Indexes an entity at a location, or moves it there should it already be indexed.
+     * @param entity The entity.
+     * @param x The x-coordinate of the entity.
+     * @param y The y-coordinate of the entity.
+     */
+    public void insert(T entity, float x, float y) {
+        move(entity, cellOf.getInt(entity), x, y);
+    }
+
+    /**
+     * Moves an entity to a location should it be indexed. Entities that are not indexed (such as those not yet
+     * added to the world) are ignored.
+     * @param entity The entity.
+     * @param x The x-coordinate of the entity.
+     * @param y The y-coordinate of the entity.
+     */
+    public void update(T entity, float x, float y) {
+        val previousCell = cellOf.getInt(entity);
+        if (previousCell != -1) {
+            move(entity, previousCell, x, y);
+        }
+    }
+
+    /**
+     * Moves an entity into the cell of a location. The grid is only touched when the entity crosses into another
+     * cell.
+     * @param entity The entity.
+     * @param previousCell The cell the entity is in, or {@code -1} if it is not indexed.
+     * @param x The x-coordinate of the entity.
+     * @param y The y-coordinate of the entity.
+     */
+    private void move(T entity, int previousCell, float x, float y) {
+        val cell = cellAt(column(x), row(y));
+        if (cell == previousCell) {
+            return;
+        }
+        if (previousCell != -1) {
+            cells[previousCell].remove(entity);
+        }
+        cells[cell].add(entity);
+        cellOf.put(entity, cell);
+    }
+
+    /**
+     * Removes an entity from the grid. Removing an entity that is not indexed does nothing.
+     * @param entity The entity.
+     */
+    public void remove(T entity) {
+        val cell = cellOf.removeInt(entity);
+        if (cell != -1) {
+            cells[cell].remove(entity);
+        }
+    }
+
+    /**
+     * Removes every entity from the grid.
+     */
+    public void clear() {
+        for (ObjectList<T> cell : cells) {
+            cell.clear();
+        }
+        cellOf.clear();
+    }
+
+    /**
+     * Gets the amount of entities in the grid.
+     * @return The amount of entities.
+     */
+    public int size() {
+        return cellOf.size();
+    }
+
+    /**
+     * Collects the entities of every cell an area (grown by the {@link SpatialGrid#padding}) overlaps. The entities
+     * found are candidates: the caller still tests them against the exact area.
+     * @param minX The x-coordinate of the left edge of the area.
+     * @param minY The y-coordinate of the bottom edge of the area.
+     * @param maxX The x-coordinate of the right edge of the area.
+     * @param maxY The y-coordinate of the top edge of the area.
+     * @param results The list the entities found are added to.
+     */
+    public void query(float minX, float minY, float maxX, float maxY, ObjectList<? super T> results) {
+        val firstColumn = column(minX - padding);
+        val lastColumn = column(maxX);
+        val firstRow = row(minY - padding);
+        val lastRow = row(maxY);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                results.addAll(cells[cellAt(column, row)]);
+            }
+        }
+    }
+
+    /**
+     * Collects the entities of every cell a circle overlaps.
+     * @param x The x-coordinate of the center of the circle.
+     * @param y The y-coordinate of the center of the circle.
+     * @param radius The radius of the circle.
+     * @param results The list the entities found are added to.
+     * @see SpatialGrid#query(float, float, float, float, ObjectList)
+     */
+    public void queryRadius(float x, float y, float radius, ObjectList<? super T> results) {
+        query(x - radius, y - radius, x + radius, y + radius, results);
+    }
+
+    /**
+     * Gets the column a x-coordinate lies in, clamped to the grid.
+     * @param x The x-coordinate.
+     * @return The column.
+     */
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor((x - minX) / CELL_SIZE)));
+    }
+
+    /**
+     * Gets the row a y-coordinate lies in, clamped to the grid.
+     * @param y The y-coordinate.
+     * @return The row.
+     */
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((y - minY) / CELL_SIZE)));
+    }
+
+    /**
+     * Gets the index of a cell.
+     * @param column The column of the cell.
+     * @param row The row of the cell.
+     * @return The index of the cell.
+     */
+    private int cellAt(int column, int row) {
+        return row * columns + column;
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.moribund.simulation;
+
+import lombok.val;
+
+import java.util.Arrays;
+
+/**
+ * The {@code StateHistory} is a ring buffer of the states of the players over the last
+ * {@link StateHistory#CAPACITY} ticks, together with the latest snapshot the client had received by each tick. It
+ * records the world as this client saw it, so that a hit reported to the server can name the tick, the
+ * interpolation between ticks and the snapshot it was seen at, for the server to rewind to and validate the hit
+ * against, see {@link com.github.moribund.net.packets.combat.ProjectileCollisionPacket}.
+ *
+ * <p>
+ * The history is only written and read from the render thread.
+ */
+public final class StateHistory {
+
+    /**
+     * The amount of ticks held, which is a second of ticks.
+     */
+    public static final int CAPACITY = GameClock.TICK_RATE;
+
+    /**
+     * The tick of each frame of the ring, or {@code -1} for a frame not yet recorded.
+     */
+    private final long[] ticks;
+
+    /**
+     * The ID of the latest snapshot received by the tick of each frame.
+     */
+    private final int[] snapshotIds;
+
+    /**
+     * The amount of players recorded in each frame.
+     */
+    private final int[] counts;
+
+    /**
+     * The player ID of each player recorded in each frame.
+     */
+    private final int[][] playerIds;
+
+    /**
+     * The x-coordinate of each player recorded in each frame.
+     */
+    private final float[][] xs;
+
+    /**
+     * The y-coordinate of each player recorded in each frame.
+     */
+    private final float[][] ys;
+
+    /**
+     * The rotation of each player recorded in each frame.
+     */
+    private final float[][] rotations;
+
+    /**
+     * The index of the frame being recorded.
+     */
+    private int frame;
+
+    /**
+     * Creates an empty history.
+     */
+    public StateHistory() {
+        ticks = new long[CAPACITY];
+        snapshotIds = new int[CAPACITY];
+        counts = new int[CAPACITY];
+        playerIds = new int[CAPACITY][0];
+        xs = new float[CAPACITY][0];
+        ys = new float[CAPACITY][0];
+        rotations = new float[CAPACITY][0];
+        clear();
+    }
+
+    /**
+     * Starts recording the frame of a tick, overwriting the oldest frame.
+     * @param tick The tick.
+     * @param snapshotId The ID of the latest snapshot received by the tick, or {@code -1} if there is none.
+     */
+    public void beginFrame(long tick, int snapshotId) {
+        frame = (int) Math.floorMod(tick, (long) CAPACITY);
+        ticks[frame] = tick;
+        snapshotIds[frame] = snapshotId;
+        counts[frame] = 0;
+    }
+
+    /**
+     * Records the state of a player in the frame being recorded.
+     * @param playerId The player ID of the player.
+     * @param x The x-coordinate of the player.
+     * @param y The y-coordinate of the player.
+     * @param rotation The rotation of the player.
+     */
+    public void record(int playerId, float x, float y, float rotation) {
+        val index = counts[frame]++;
+        if (index == playerIds[frame].length) {
+            val capacity = Math.max(8, index * 2);
+            playerIds[frame] = Arrays.copyOf(playerIds[frame], capacity);
+            xs[frame] = Arrays.copyOf(xs[frame], capacity);
+            ys[frame] = Arrays.copyOf(ys[frame], capacity);
+            rotations[frame] = Arrays.copyOf(rotations[frame], capacity);
+        }
+        playerIds[frame][index] = playerId;
+        xs[frame][index] = x;
+        ys[frame][index] = y;
+        rotations[frame][index] = rotation;
+    }
+
+    /**
+     * Gets the ID of the latest snapshot the client had received by a tick.
+     * @param tick The tick.
+     * @return The snapshot ID, or {@code -1} if the tick is no longer (or not yet) held.
+     */
+    public int getSnapshotIdAt(long tick) {
+        val frame = frameOf(tick);
+        return frame == -1 ? -1 : snapshotIds[frame];
+    }
+
+    /**
+     * Gets the state of a player as it was drawn between a tick and the tick before it.
+     * @param tick The later of the two ticks.
+     * @param alpha How far between the two ticks the state was drawn at.
+     * @param playerId The player ID of the player.
+     * @param state The array to write the x-coordinate, y-coordinate and rotation of the player into.
+     * @return If the state was found, which it is not should either tick no longer be held or the player not have
+     * been recorded in it.
+     */
+    public boolean getStateAt(long tick, float alpha, int playerId, float[] state) {
+        val frame = frameOf(tick);
+        val previousFrame = frameOf(tick - 1);
+        if (frame == -1 || previousFrame == -1) {
+            return false;
+        }
+        val index = indexOf(frame, playerId);
+        val previousIndex = indexOf(previousFrame, playerId);
+        if (index == -1 || previousIndex == -1) {
+            return false;
+        }
+        state[0] = xs[previousFrame][previousIndex] + (xs[frame][index] - xs[previousFrame][previousIndex]) * alpha;
+        state[1] = ys[previousFrame][previousIndex] + (ys[frame][index] - ys[previousFrame][previousIndex]) * alpha;
+        state[2] = rotations[frame][index];
+        return true;
+    }
+
+    /**
+     * Drops every frame of the history.
+     */
+    public void clear() {
+        Arrays.fill(ticks, -1);
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Gets the frame a tick is recorded in.
+     * @param tick The tick.
+     * @return The index of the frame, or {@code -1} if the tick is not held.
+     */
+    private int frameOf(long tick) {
+        if (tick < 0) {
+            return -1;
+        }
+        val frame = (int) (tick % CAPACITY);
+        return ticks[frame] == tick ? frame : -1;
+    }
+
+    /**
+     * Gets the index of a player within a frame.
+     * @param frame The index of the frame.
+     * @param playerId The player ID of the player.
+     * @return The index of the player, or {@code -1} if it was not recorded in the frame.
+     */
+    private int indexOf(int frame, int playerId) {
+        for (int i = 0; i < counts[frame]; i++) {
+            if (playerIds[frame][i] == playerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.moribund.simulation;
+
+/**
+ * The {@code UpdateTier} of an entity decides how often it is stepped by the simulation, so that the entities far
+ * from the camera do not take up the budget of a tick. The tier of an entity is decided every tick from where it is
+ * relative to the camera.
+ */
+public enum UpdateTier {
+
+    /**
+     * Stepped every tick. This is the tier of every entity within view, and of the player of this client.
+     */
+    FULL(1),
+
+    /**
+     * Stepped every {@code 4} ticks, the ticks of different entities being staggered by their phase. An entity of
+     * this tier must be able to catch up on the ticks it skipped when it is stepped.
+     */
+    REDUCED(4),
+
+    /**
+     * Not stepped by the simulation at all: the state of the entity only changes as network updates arrive.
+     */
+    DORMANT(0);
+
+    /**
+     * The amount of ticks between the steps of an entity of the tier, or {@code 0} if it is never stepped.
+     */
+    private final int interval;
+
+    UpdateTier(int interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Checks whether an entity of the tier is to be stepped on a tick.
+     * @param tick The tick being stepped.
+     * @param phase The phase of the entity, which spreads the entities of the tier over the ticks.
+     * @return If the entity is to be stepped.
+     */
+    public boolean isDue(long tick, int phase) {
+        return interval != 0 && Math.floorMod(tick + phase, (long) interval) == 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.moribund.simulation;
+
+import lombok.Getter;
+
+/**
+ * The {@code WorldBounds} are the extents of the map, centered on the origin. They are taken from the size of the
+ * background when the game is rendered, but can be made up directly when the simulation runs without textures.
+ */
+public final class WorldBounds {
+
+    /**
+     * How far short of the upper bounds an entity is stopped, so that its sprite, drawn from its bottom left corner,
+     * stays on the map.
+     */
+    private static final float UPPER_MARGIN = 50;
+
+    /**
+     * The width of the map.
+     */
+    @Getter
+    private final float width;
+
+    /**
+     * The height of the map.
+     */
+    @Getter
+    private final float height;
+
+    /**
+     * Creates the bounds of a map.
+     * @param width The width of the map.
+     * @param height The height of the map.
+     */
+    public WorldBounds(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Gets the smallest x-coordinate on the map.
+     * @return The smallest x-coordinate.
+     */
+    public float getMinX() {
+        return -width / 2;
+    }
+
+    /**
+     * Gets the smallest y-coordinate on the map.
+     * @return The smallest y-coordinate.
+     */
+    public float getMinY() {
+        return -height / 2;
+    }
+
+    /**
+     * Limits a velocity on the x-axis so that it does not take an entity off the map.
+     * @param x The x-coordinate of the entity.
+     * @param velocity The velocity on the x-axis.
+     * @return The velocity, or {@code 0} should the entity be at the edge it is moving towards.
+     */
+    public float limitVelocityX(float x, float velocity) {
+        return limitVelocity(velocity, x, width / 2);
+    }
+
+    /**
+     * Limits a velocity on the y-axis so that it does not take an entity off the map.
+     * @param y The y-coordinate of the entity.
+     * @param velocity The velocity on the y-axis.
+     * @return The velocity, or {@code 0} should the entity be at the edge it is moving towards.
+     */
+    public float limitVelocityY(float y, float velocity) {
+        return limitVelocity(velocity, y, height / 2);
+    }
+
+    /**
+     * Limits a velocity along an axis of the map.
+     * @param velocity The velocity along the axis.
+     * @param coordinate The coordinate of the entity along the axis.
+     * @param halfExtent Half the extent of the map along the axis.
+     * @return The velocity, or {@code 0} should the entity be at the edge it is moving towards.
+     */
+    private float limitVelocity(float velocity, float coordinate, float halfExtent) {
+        if (velocity < 0 && coordinate <= -halfExtent) {
+            return 0;
+        } else if (velocity > 0 && coordinate >= halfExtent - UPPER_MARGIN) {
+            return 0;
+        }
+        return velocity;
+    }
+}
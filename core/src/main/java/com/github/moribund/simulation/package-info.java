@@ -0,0 +1,5 @@
+/**
+ * The fixed-timestep simulation of the game and the clock it runs on, decoupled from the rate the game is rendered
+ * at.
+ */
+package com.github.moribund.simulation;
@@ -6,7 +6,9 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.github.moribund.MoribundClient;
 import com.github.moribund.audio.MusicPlayer;
+import com.github.moribund.objects.playable.players.PlayableCharacter;
 import com.github.moribund.objects.playable.players.Player;
+import com.github.moribund.objects.playable.players.RemotePlayer;
 import com.github.moribund.screens.title.TitleScreen;
 import com.github.moribund.screens.title.TitleScreenFactory;
 import lombok.experimental.UtilityClass;
@@ -19,18 +21,14 @@ import lombok.val;
 public class PlayerUtils {
 
     /**
-     * Sets the {@link MoribundClient#player} to a given player ID.
+     * Sets the {@link MoribundClient#player} and adds its UI.
      *
-     * @param playerId The ID of the {@link MoribundClient#player} controlling this {@link MoribundClient}.
+     * @param player The {@link MoribundClient#player} controlling this {@link MoribundClient}.
      */
-    public void setClientPlayer(int playerId) {
-        val player = MoribundClient.getInstance().getPlayers().get(playerId);
+    public void setClientPlayer(Player player) {
         MoribundClient.getInstance().setPlayer(player);
         Gdx.input.setInputProcessor(player);
-        if (player instanceof Player) {
-            val actualPlayer = (Player) player;
-            actualPlayer.addUIAssets();
-        }
+        player.addUIAssets();
     }
 
     public void switchToNewTitleScreen() {
@@ -46,37 +44,61 @@ public class PlayerUtils {
     }
 
     /**
-     * Makes a new player and sets their coordinates for rendering them. This method adds the player to the
-     * maps and sets for rendering.
+     * Makes the {@link Player} controlled by this client, see {@link PlayerUtils#makePlayer(int, int, String, float,
+     * float, float, int)}.
      *
      * @param playerId The unique player ID of the character made.
      * @return The newly made player that has been added to the player map.
      */
-    public Player makePlayer(int gameId, int playerId, String username, float x, float y, float rotation, int hitpoints) {
+    public Player makeLocalPlayer(int gameId, int playerId, String username, float x, float y, float rotation, int hitpoints) {
         val player = new Player(gameId, playerId, username, hitpoints);
+        addPlayer(player, x, y, rotation);
+        return player;
+    }
+
+    /**
+     * Makes a new {@link RemotePlayer} and sets their coordinates for rendering them. This method adds the player to
+     * the {@link MoribundClient#players} map at once, and requests it to be spawned into the sets for rendering.
+     *
+     * @param playerId The unique player ID of the character made.
+     * @return The newly made player that has been added to the player map.
+     */
+    public RemotePlayer makePlayer(int gameId, int playerId, String username, float x, float y, float rotation, int hitpoints) {
+        val player = new RemotePlayer(gameId, playerId, username, hitpoints);
+        addPlayer(player, x, y, rotation);
+        return player;
+    }
+
+    /**
+     * Adds a player to the {@link MoribundClient#players} map at its coordinates, and requests it to be spawned.
+     *
+     * @param player The player to add.
+     * @param x The x-coordinate of the player.
+     * @param y The y-coordinate of the player.
+     * @param rotation The rotation of the player.
+     */
+    private void addPlayer(PlayableCharacter player, float x, float y, float rotation) {
         val client = MoribundClient.getInstance();
 
-        client.getPlayers().put(playerId, player);
-        client.getDrawableGameAssets().add(player);
-        client.getFlaggables().add(player);
+        client.getPlayers().put(player.getPlayerId(), player);
 
         player.setX(x);
         player.setY(y);
         player.setRotation(rotation);
-        return player;
+        player.getBody().snap();
+        client.getEntityCommands().spawn(player);
     }
 
     /**
-     * Deletes a player from the {@link MoribundClient#players} map.
+     * Deletes a player from the {@link MoribundClient#players} map at once, and requests it to be despawned.
      *
      * @param playerId The player ID (or key) of the player to delete.
      */
     public void deletePlayer(int playerId) {
         val client = MoribundClient.getInstance();
-        val player = client.getPlayers().get(playerId);
-
-        client.getDrawableGameAssets().remove(player);
-        client.getFlaggables().remove(player);
-        client.getPlayers().remove(playerId);
+        val player = client.getPlayers().remove(playerId);
+        if (player != null) {
+            client.getEntityCommands().despawn(player);
+        }
     }
 }
@@ -0,0 +1,106 @@
+package com.github.moribund.desktop.tools;
+
+import com.github.moribund.simulation.ObstacleMap;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * The {@code ObstacleMapBaker} bakes the {@link ObstacleMap} of the background offline from a mask image of the same
+ * size as {@code images/background.png}, in which the obstacles are painted opaque over a transparent background.
+ * A tile is blocked should at least half of its pixels be opaque.
+ */
+final class ObstacleMapBaker {
+
+    /**
+     * The mask image baked when no arguments are given, relative to the root of the project.
+     */
+    private static final String DEFAULT_MASK = "raw/images/background_mask.png";
+
+    /**
+     * The file written when no arguments are given, relative to the root of the project.
+     */
+    private static final String DEFAULT_OUTPUT = "assets/" + ObstacleMap.FILE;
+
+    /**
+     * The lowest alpha of a pixel that is opaque.
+     */
+    private static final int OPAQUE_ALPHA = 128;
+
+    private ObstacleMapBaker() { }
+
+    /**
+     * Bakes a mask image into an obstacle map.
+     * @param args The path of the mask image and the path to write the obstacle map to, both optional.
+     * @throws IOException Should the mask image fail to be read, or the obstacle map fail to be written.
+     */
+    public static void main(String[] args) throws IOException {
+        File mask = new File(args.length > 0 ? args[0] : DEFAULT_MASK);
+        File output = new File(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+        BufferedImage image = ImageIO.read(mask);
+        if (image == null) {
+            throw new IOException("Not an image: " + mask);
+        }
+        ObstacleMap obstacleMap = bake(image);
+        File directory = output.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+        try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+            obstacleMap.write(stream);
+        }
+        System.out.println("Baked " + obstacleMap.getColumns() + "x" + obstacleMap.getRows() + " tiles into "
+                + output);
+    }
+
+    /**
+     * Bakes a mask image into an obstacle map. The rows of the image run from the top while the rows of the
+     * obstacle map run from the bottom, so the image is flipped.
+     * @param image The mask image.
+     * @return The obstacle map.
+     */
+    private static ObstacleMap bake(BufferedImage image) {
+        int tileSize = ObstacleMap.TILE_SIZE;
+        int columns = (image.getWidth() + tileSize - 1) / tileSize;
+        int rows = (image.getHeight() + tileSize - 1) / tileSize;
+        ObstacleMap obstacleMap = new ObstacleMap(columns, rows);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int bottom = image.getHeight() - row * tileSize;
+                int top = Math.max(0, bottom - tileSize);
+                int left = column * tileSize;
+                int right = Math.min(image.getWidth(), left + tileSize);
+                if (isMostlyOpaque(image, left, top, right, bottom)) {
+                    obstacleMap.setBlocked(column, row);
+                }
+            }
+        }
+        return obstacleMap;
+    }
+
+    /**
+     * Checks whether at least half of the pixels of an area of an image are opaque.
+     * @param image The image.
+     * @param left The first column of pixels of the area.
+     * @param top The first row of pixels of the area.
+     * @param right The column of pixels after the last of the area.
+     * @param bottom The row of pixels after the last of the area.
+     * @return If the area is mostly opaque.
+     */
+    private static boolean isMostlyOpaque(BufferedImage image, int left, int top, int right, int bottom) {
+        int opaque = 0;
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                if ((image.getRGB(x, y) >>> 24) >= OPAQUE_ALPHA) {
+                    opaque++;
+                }
+            }
+        }
+        return opaque * 2 >= (right - left) * (bottom - top);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Tools run offline to bake the assets of Moribund.
+ */
+package com.github.moribund.desktop.tools;